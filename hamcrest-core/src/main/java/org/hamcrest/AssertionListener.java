@@ -0,0 +1,30 @@
+package org.hamcrest;
+
+/**
+ * Observes every {@link MatcherAssert#assertThat(String, Object, Matcher)}, for example
+ * to time, sample or trace assertions.
+ * <p>
+ * Listeners are found once, when {@link MatcherAssert} is first used, with
+ * {@link java.util.ServiceLoader}: list the implementing class in a resource named
+ * {@code META-INF/services/org.hamcrest.AssertionListener}. When no listener is
+ * found, assertions run exactly as they would without this interface.
+ * <p>
+ * Listeners are called on the asserting thread, in the order they were found, and an
+ * exception thrown by a listener propagates to the caller of {@code assertThat}.
+ */
+public interface AssertionListener {
+
+    /**
+     * Called before the matcher is applied.
+     */
+    void beforeAssertion(String reason, Object actual, Matcher<?> matcher);
+
+    /**
+     * Called after the matcher has been applied and, if it did not match, the mismatch
+     * described, just before the {@link AssertionError} is thrown.
+     *
+     * @param matched whether the assertion passed; false if the matcher threw an exception
+     * @param elapsedNanos the time taken by the assertion, measured with {@link System#nanoTime()}
+     */
+    void afterAssertion(String reason, Object actual, Matcher<?> matcher, boolean matched, long elapsedNanos);
+}
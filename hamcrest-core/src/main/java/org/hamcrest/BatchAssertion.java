@@ -0,0 +1,82 @@
+package org.hamcrest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Evaluates a batch of independent checks on an {@link Executor} and reports their
+ * failures in the order the checks were given, whatever order they finish in.
+ * <p>
+ * Each check is evaluated, and its failure rendered, on the executor, so slow matchers and
+ * slow mismatch descriptions both run concurrently. The asserting thread only waits for
+ * the results, in order. When failing fast it stops at the first check, in batch order,
+ * that failed, and cancels the checks that have not started yet.
+ */
+final class BatchAssertion {
+    private final List<FutureTask<String>> tasks = new ArrayList<FutureTask<String>>();
+
+    BatchAssertion(Iterable<? extends MatcherAssert.Check<?>> checks) {
+        for (MatcherAssert.Check<?> check : checks) {
+            tasks.add(new FutureTask<String>(evaluation(check)));
+        }
+    }
+
+    void run(Executor executor, boolean failFast) {
+        try {
+            for (FutureTask<String> task : tasks) {
+                executor.execute(task);
+            }
+            final SoftAssertions failures = new SoftAssertions(Integer.MAX_VALUE);
+            for (FutureTask<String> task : tasks) {
+                final String failure = task.get();
+                if (failure != null) {
+                    if (failFast) {
+                        throw new AssertionError(failure);
+                    }
+                    failures.checkThat(failure, false);
+                }
+            }
+            failures.assertAll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("interrupted while waiting for " + tasks.size() + " checks");
+        } catch (ExecutionException e) {
+            // evaluation() turns runtime exceptions into failures, so this is an Error or a checked exception thrown sneakily
+            final Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new AssertionError("check threw " + cause, cause);
+        } finally {
+            for (FutureTask<String> task : tasks) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    private static <T> Callable<String> evaluation(final MatcherAssert.Check<T> check) {
+        return new Callable<String>() {
+            @Override
+            public String call() {
+                try {
+                    MatcherAssert.assertThat(check.reason, check.actual, check.matcher);
+                    return null;
+                } catch (AssertionError e) {
+                    return e.getMessage();
+                } catch (RuntimeException e) {
+                    return new StringDescription()
+                            .appendText(check.reason)
+                            .appendText("\nExpected: ")
+                            .appendDescriptionOf(check.matcher)
+                            .appendText("\n     but: threw ")
+                            .appendValue(e)
+                            .toString();
+                }
+            }
+        };
+    }
+}
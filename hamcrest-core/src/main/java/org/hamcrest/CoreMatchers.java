@@ -77,6 +77,20 @@ public class CoreMatchers {
     return org.hamcrest.core.DescribedAs.describedAs(description, matcher, values);
   }
 
+  /**
+   * Creates a matcher that behaves exactly like <code>matcher</code>, but remembers the
+   * outcome for each item it examines, looked up by equality, up to 1024 outcomes. It suits
+   * expensive matchers applied repeatedly to the same unchanging items.
+   * For example:
+   * <pre>Matcher&lt;Node&gt; valid = memoized(hasXPath("/order/total")).weakKeys();</pre>
+   * 
+   * @param matcher
+   *     the matcher whose outcomes should be remembered
+   */
+  public static <T> org.hamcrest.core.IsMemoized<T> memoized(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.core.IsMemoized.memoized(matcher);
+  }
+
   /**
    * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
    * examined {@link Iterable} yields items that are all matched by the specified
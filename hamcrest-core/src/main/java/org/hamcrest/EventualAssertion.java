@@ -0,0 +1,240 @@
+package org.hamcrest;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Polls a value until it satisfies a matcher or a timeout expires, waiting twice as long
+ * after each failed attempt, up to {@link #MAX_DELAY_NANOS}.
+ * <p>
+ * Polling either blocks the asserting thread, through {@link #await()}, or is driven by
+ * a {@link ScheduledExecutorService}, in which case no thread is held between attempts
+ * and this object is the {@link Future} of the outcome. Only the last observed value is
+ * kept, and the failure message is rendered once, from it, when the timeout expires.
+ */
+final class EventualAssertion<T> implements Future<T>, Runnable {
+    static final long INITIAL_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    static final long MAX_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final int RUNNING = 0;
+    private static final int MATCHED = 1;
+    private static final int FAILED = 2;
+    private static final int CANCELLED = 3;
+
+    private final String reason;
+    private final Callable<? extends T> supplier;
+    private final Matcher<? super T> matcher;
+    private final long startNanos;
+    private final long deadlineNanos;
+    private final ScheduledExecutorService scheduler;
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    private long delayNanos = INITIAL_DELAY_NANOS;
+    private int attempts = 0;
+    private T lastValue;
+    private Exception lastException;
+
+    private int state = RUNNING;
+    private T result;
+    private AssertionError failure;
+    private ScheduledFuture<?> pending;
+
+    EventualAssertion(String reason, Callable<? extends T> supplier, Matcher<? super T> matcher,
+                      long timeout, TimeUnit unit, ScheduledExecutorService scheduler) {
+        this.reason = reason;
+        this.supplier = supplier;
+        this.matcher = matcher;
+        this.startNanos = System.nanoTime();
+        this.deadlineNanos = startNanos + unit.toNanos(timeout);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Polls on the calling thread until the value matches.
+     * @return the matching value
+     * @throws AssertionError if the timeout expires, or the thread is interrupted, first
+     */
+    T await() {
+        while (!poll()) {
+            final long remaining = deadlineNanos - System.nanoTime();
+            if (remaining <= 0) {
+                throw failure("");
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(nextDelay(remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw failure("\n     when: interrupted");
+            }
+        }
+        return lastValue;
+    }
+
+    /**
+     * Starts polling on the scheduler.
+     */
+    EventualAssertion<T> start() {
+        synchronized (this) {
+            pending = scheduler.schedule(this, 0, TimeUnit.NANOSECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * One scheduled attempt. Attempts never overlap, because each one schedules the next.
+     */
+    @Override
+    public void run() {
+        if (isDone()) {
+            return;
+        }
+        try {
+            if (poll()) {
+                finish(MATCHED, lastValue, null);
+                return;
+            }
+            final long remaining = deadlineNanos - System.nanoTime();
+            if (remaining <= 0) {
+                finish(FAILED, null, failure(""));
+                return;
+            }
+            synchronized (this) {
+                if (state == RUNNING) {
+                    pending = scheduler.schedule(this, nextDelay(remaining), TimeUnit.NANOSECONDS);
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            finish(FAILED, null, new AssertionError(e));
+        }
+    }
+
+    private boolean poll() {
+        attempts++;
+        try {
+            lastValue = supplier.call();
+            lastException = null;
+        } catch (Exception e) {
+            lastException = e;
+            return false;
+        }
+        return matcher.matches(lastValue);
+    }
+
+    private long nextDelay(long remainingNanos) {
+        final long delay = Math.min(delayNanos, remainingNanos);
+        delayNanos = Math.min(delayNanos * 2, MAX_DELAY_NANOS);
+        return delay;
+    }
+
+    private AssertionError failure(String suffix) {
+        final Description description = new StringDescription();
+        description.appendText(reason)
+                   .appendText("\nExpected: ")
+                   .appendDescriptionOf(matcher)
+                   .appendText("\n     but: ");
+        if (lastException != null) {
+            description.appendText("threw ").appendValue(lastException);
+        } else if (attempts > 0) {
+            matcher.describeMismatch(lastValue, description);
+        } else {
+            description.appendText("was never checked");
+        }
+        description.appendText("\n    after: " + attempts + (attempts == 1 ? " attempt" : " attempts") + " over "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + "ms")
+                   .appendText(suffix);
+        return new AssertionError(description.toString(), lastException);
+    }
+
+    private void finish(int outcome, T value, AssertionError error) {
+        synchronized (this) {
+            if (state != RUNNING) {
+                return;
+            }
+            state = outcome;
+            result = value;
+            failure = error;
+        }
+        done.countDown();
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        final ScheduledFuture<?> toCancel;
+        synchronized (this) {
+            if (state != RUNNING) {
+                return false;
+            }
+            state = CANCELLED;
+            toCancel = pending;
+        }
+        if (toCancel != null) {
+            toCancel.cancel(mayInterruptIfRunning);
+        }
+        done.countDown();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return state != RUNNING;
+    }
+
+    @Override
+    public T get() throws InterruptedException, ExecutionException {
+        done.await();
+        return outcome();
+    }
+
+    @Override
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!done.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        return outcome();
+    }
+
+    private synchronized T outcome() throws ExecutionException {
+        if (state == CANCELLED) {
+            throw new CancellationException();
+        }
+        if (state == FAILED) {
+            throw new ExecutionException(failure);
+        }
+        return result;
+    }
+
+    /**
+     * The scheduler used when none is given: one daemon thread shared by every
+     * asynchronous eventual assertion, created on first use.
+     */
+    static final class SharedScheduler {
+        static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    final Thread thread = new Thread(runnable, "hamcrest-eventually");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
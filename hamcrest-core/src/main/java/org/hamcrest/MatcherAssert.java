@@ -1,21 +1,33 @@
 package org.hamcrest;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 
 public class MatcherAssert {
+    private static final AssertionListener[] LISTENERS = loadListeners(Thread.currentThread().getContextClassLoader());
+    private static final boolean HAS_LISTENERS = LISTENERS.length > 0;
+
     public static <T> void assertThat(T actual, Matcher<? super T> matcher) {
         assertThat("", actual, matcher);
     }
     
     public static <T> void assertThat(String reason, T actual, Matcher<? super T> matcher) {
+        if (HAS_LISTENERS) {
+            assertThat(reason, actual, matcher, LISTENERS);
+            return;
+        }
         if (!matcher.matches(actual)) {
-            Description description = new StringDescription();
-            description.appendText(reason)
-                       .appendText("\nExpected: ")
-                       .appendDescriptionOf(matcher)
-                       .appendText("\n     but: ");
-            matcher.describeMismatch(actual, description);
-            
-            throw new AssertionError(description.toString());
+            throw mismatch(reason, actual, matcher);
         }
     }
     
@@ -24,4 +36,156 @@ public class MatcherAssert {
             throw new AssertionError(reason);
         }
     }
+
+    /**
+     * Asserts that the value returned by <code>supplier</code> satisfies <code>matcher</code>
+     * within the timeout. The supplier is called on this thread, with exponentially growing
+     * pauses between calls, from 1ms up to 100ms, until its value matches. A call that
+     * throws an exception counts as a mismatch. If the timeout expires, the failure describes
+     * the last value observed.
+     * For example:
+     * <pre>assertEventually(queueSize, equalTo(0), 5, SECONDS)</pre>
+     *
+     * @return the first value that matched
+     */
+    public static <T> T assertEventually(Callable<? extends T> supplier, Matcher<? super T> matcher, long timeout, TimeUnit unit) {
+        return assertEventually("", supplier, matcher, timeout, unit);
+    }
+
+    /**
+     * As {@link #assertEventually(Callable, Matcher, long, TimeUnit)}, with a reason for the failure message.
+     *
+     * @return the first value that matched
+     */
+    public static <T> T assertEventually(String reason, Callable<? extends T> supplier, Matcher<? super T> matcher, long timeout, TimeUnit unit) {
+        return new EventualAssertion<T>(reason, supplier, matcher, timeout, unit, null).await();
+    }
+
+    /**
+     * Starts polling the value returned by <code>supplier</code> until it satisfies
+     * <code>matcher</code> or the timeout expires, without holding a thread between attempts.
+     * The attempts run on one daemon thread shared by all asynchronous eventual assertions,
+     * so the supplier and matcher should be quick.
+     * <p>
+     * The returned future completes with the first value that matched, or fails with an
+     * {@link java.util.concurrent.ExecutionException} whose cause is the {@link AssertionError}
+     * describing the last value observed. Cancelling it stops the polling.
+     */
+    public static <T> Future<T> assertEventuallyAsync(String reason, Callable<? extends T> supplier, Matcher<? super T> matcher, long timeout, TimeUnit unit) {
+        return assertEventuallyAsync(reason, supplier, matcher, timeout, unit, EventualAssertion.SharedScheduler.INSTANCE);
+    }
+
+    /**
+     * As {@link #assertEventuallyAsync(String, Callable, Matcher, long, TimeUnit)}, with the
+     * attempts run on the given scheduler.
+     */
+    public static <T> Future<T> assertEventuallyAsync(String reason, Callable<? extends T> supplier, Matcher<? super T> matcher, long timeout, TimeUnit unit, ScheduledExecutorService scheduler) {
+        return new EventualAssertion<T>(reason, supplier, matcher, timeout, unit, scheduler).start();
+    }
+
+    /**
+     * Creates a check of <code>actual</code> against <code>matcher</code>, for
+     * {@link #assertAll(Executor, boolean, Check[])}.
+     */
+    public static <T> Check<T> check(T actual, Matcher<? super T> matcher) {
+        return check("", actual, matcher);
+    }
+
+    /**
+     * Creates a check of <code>actual</code> against <code>matcher</code>, with a reason
+     * for the failure message, for {@link #assertAll(Executor, boolean, Check[])}.
+     */
+    public static <T> Check<T> check(String reason, T actual, Matcher<? super T> matcher) {
+        return new Check<T>(reason, actual, matcher);
+    }
+
+    /**
+     * As {@link #assertAll(Executor, boolean, Iterable)}.
+     * For example:
+     * <pre>assertAll(pool, false, check("name", name, equalTo("Bob")), check("age", age, greaterThan(18)))</pre>
+     */
+    public static void assertAll(Executor executor, boolean failFast, Check<?>... checks) {
+        assertAll(executor, failFast, Arrays.asList(checks));
+    }
+
+    /**
+     * Evaluates independent checks concurrently on <code>executor</code>, which may be any
+     * {@link java.util.concurrent.ExecutorService} or a {@link java.util.concurrent.ForkJoinPool}.
+     * Failures are reported in the order the checks were given, whatever order they finish in.
+     * <p>
+     * If <code>failFast</code> is true, this throws the failure of the first check, in batch
+     * order, that failed, as {@link #assertThat(String, Object, Matcher)} would, and cancels
+     * the checks that have not started. Otherwise every check runs, and the failures are
+     * reported together, as by {@link SoftAssertions#assertAll()}. A matcher that throws an
+     * exception fails its check.
+     */
+    public static void assertAll(Executor executor, boolean failFast, Iterable<? extends Check<?>> checks) {
+        new BatchAssertion(checks).run(executor, failFast);
+    }
+
+    static <T> void assertThat(String reason, T actual, Matcher<? super T> matcher, AssertionListener[] listeners) {
+        for (AssertionListener listener : listeners) {
+            listener.beforeAssertion(reason, actual, matcher);
+        }
+        final long start = System.nanoTime();
+        boolean matched = false;
+        AssertionError failure = null;
+        try {
+            matched = matcher.matches(actual);
+            if (!matched) {
+                failure = mismatch(reason, actual, matcher);
+            }
+        } finally {
+            final long elapsedNanos = System.nanoTime() - start;
+            for (AssertionListener listener : listeners) {
+                listener.afterAssertion(reason, actual, matcher, matched, elapsedNanos);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static <T> AssertionError mismatch(String reason, T actual, Matcher<? super T> matcher) {
+        return new AssertionError(describeFailure(new StringDescription(), reason, actual, matcher).toString());
+    }
+
+    static <T> Description describeFailure(Description description, String reason, T actual, Matcher<? super T> matcher) {
+        description.appendText(reason)
+                   .appendText("\nExpected: ")
+                   .appendDescriptionOf(matcher)
+                   .appendText("\n     but: ");
+        matcher.describeMismatch(actual, description);
+        return description;
+    }
+
+    static AssertionListener[] loadListeners(ClassLoader classLoader) {
+        final List<AssertionListener> listeners = new ArrayList<AssertionListener>();
+        try {
+            final Iterator<AssertionListener> found = ServiceLoader.load(AssertionListener.class, classLoader).iterator();
+            while (found.hasNext()) {
+                listeners.add(found.next());
+            }
+        } catch (ServiceConfigurationError e) {
+            // a broken listener configuration must not stop assertions from working;
+            // keep the listeners found before it
+        }
+        return listeners.toArray(new AssertionListener[listeners.size()]);
+    }
+
+    /**
+     * A value and the matcher it should satisfy, to be evaluated by
+     * {@link #assertAll(Executor, boolean, Iterable)}.
+     */
+    public static final class Check<T> {
+        final String reason;
+        final T actual;
+        final Matcher<? super T> matcher;
+
+        private Check(String reason, T actual, Matcher<? super T> matcher) {
+            this.reason = reason;
+            this.actual = actual;
+            this.matcher = matcher;
+        }
+    }
 }
@@ -0,0 +1,142 @@
+package org.hamcrest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the failures of many checks and reports them together, rather than stopping
+ * at the first one as {@link MatcherAssert#assertThat(String, Object, Matcher)} does.
+ * For example:
+ * <pre>SoftAssertions softly = new SoftAssertions();
+ *softly.checkThat("name", response.getName(), equalTo("Bob"));
+ *softly.checkThat("age", response.getAge(), greaterThan(18));
+ *softly.assertAll();</pre>
+ * <p>
+ * A failed check only records the reason, the value and the matcher; nothing is described
+ * until {@link #assertAll()} renders the report. Each matcher is asked to describe its
+ * mismatch exactly once, and failures beyond the report's length limit are counted but
+ * never described.
+ * <p>
+ * Instances are not thread safe.
+ */
+public class SoftAssertions {
+    /** The default longest report, in characters, before the remaining failures are only counted. */
+    public static final int DEFAULT_MAX_REPORT_LENGTH = 64 * 1024;
+
+    private final int maxReportLength;
+    private final List<Failure<?>> failures = new ArrayList<Failure<?>>();
+
+    public SoftAssertions() {
+        this(DEFAULT_MAX_REPORT_LENGTH);
+    }
+
+    /**
+     * @param maxReportLength
+     *     the length, in characters, after which the report stops describing failures
+     */
+    public SoftAssertions(int maxReportLength) {
+        if (maxReportLength < 0) {
+            throw new IllegalArgumentException("maxReportLength must not be negative: " + maxReportLength);
+        }
+        this.maxReportLength = maxReportLength;
+    }
+
+    /**
+     * Checks that <code>actual</code> satisfies <code>matcher</code>, and records a failure if not.
+     *
+     * @return whether the check passed
+     */
+    public <T> boolean checkThat(T actual, Matcher<? super T> matcher) {
+        return checkThat("", actual, matcher);
+    }
+
+    /**
+     * Checks that <code>actual</code> satisfies <code>matcher</code>, and records a failure if not.
+     *
+     * @return whether the check passed
+     */
+    public <T> boolean checkThat(String reason, T actual, Matcher<? super T> matcher) {
+        if (matcher.matches(actual)) {
+            return true;
+        }
+        failures.add(new Failure<T>(reason, actual, matcher));
+        return false;
+    }
+
+    /**
+     * Records a failure with the given reason if <code>assertion</code> is false.
+     *
+     * @return the assertion
+     */
+    public boolean checkThat(String reason, boolean assertion) {
+        if (!assertion) {
+            failures.add(new Failure<Object>(reason, null, null));
+        }
+        return assertion;
+    }
+
+    /**
+     * @return the number of failed checks so far
+     */
+    public int failureCount() {
+        return failures.size();
+    }
+
+    /**
+     * Throws an {@link AssertionError} reporting every failed check, if there were any.
+     */
+    public void assertAll() {
+        if (!failures.isEmpty()) {
+            throw new AssertionError(report());
+        }
+    }
+
+    /**
+     * @return a report of the failed checks so far, empty if there were none
+     */
+    public String report() {
+        if (failures.isEmpty()) {
+            return "";
+        }
+        final StringBuilder report = new StringBuilder();
+        report.append(failures.size()).append(failures.size() == 1 ? " check failed:" : " checks failed:");
+        int described = 0;
+        for (Failure<?> failure : failures) {
+            if (report.length() >= maxReportLength) {
+                break;
+            }
+            report.append("\n\n").append(described + 1).append(") ");
+            failure.describeTo(new StringDescription(report));
+            described++;
+        }
+        if (report.length() > maxReportLength) {
+            report.setLength(maxReportLength);
+            report.append("...");
+        }
+        if (described < failures.size()) {
+            final int remaining = failures.size() - described;
+            report.append("\n\n... and ").append(remaining).append(remaining == 1 ? " more failure" : " more failures");
+        }
+        return report.toString();
+    }
+
+    private static final class Failure<T> {
+        private final String reason;
+        private final T actual;
+        private final Matcher<? super T> matcher;
+
+        Failure(String reason, T actual, Matcher<? super T> matcher) {
+            this.reason = reason;
+            this.actual = actual;
+            this.matcher = matcher;
+        }
+
+        void describeTo(Description description) {
+            if (matcher == null) {
+                description.appendText(reason);
+            } else {
+                MatcherAssert.describeFailure(description, reason, actual, matcher);
+            }
+        }
+    }
+}
@@ -54,7 +54,16 @@ public abstract class TypeSafeDiagnosingMatcher<T> extends BaseMatcher<T> {
     public final boolean matches(Object item) {
         return item != null
             && expectedType.isInstance(item)
-            && matchesSafely((T) item, new Description.NullDescription());
+            && matchesWithoutDescribing((T) item);
+    }
+
+    /**
+     * Called by {@link #matches(Object)}, when no mismatch is to be described. Subclasses
+     * that can decide a match more cheaply without describing it may override this. The item
+     * will already have been checked for the specific type and will never be null.
+     */
+    protected boolean matchesWithoutDescribing(T item) {
+        return matchesSafely(item, new Description.NullDescription());
     }
 
     @SuppressWarnings("unchecked")
@@ -13,6 +13,7 @@ import java.util.Arrays;
 public class AllOf<T> extends DiagnosingMatcher<T> {
 
     private final Iterable<Matcher<? super T>> matchers;
+    private int hash;
 
     public AllOf(Iterable<Matcher<? super T>> matchers) {
         this.matchers = matchers;
@@ -35,6 +36,24 @@ public class AllOf<T> extends DiagnosingMatcher<T> {
         description.appendList("(", " " + "and" + " ", ")", matchers);
     }
 
+    Iterable<Matcher<? super T>> matchers() {
+        return matchers;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other != null && other.getClass() == getClass() && ShortcutCombination.sameMatchers(matchers, ((AllOf<?>) other).matchers);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = hash = ShortcutCombination.hashOf(AllOf.class, matchers);
+        }
+        return result;
+    }
+
     /**
      * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers.
      * For example:
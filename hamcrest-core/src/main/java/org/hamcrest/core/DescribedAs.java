@@ -4,6 +4,8 @@ import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import static java.lang.Integer.parseInt;
@@ -12,16 +14,50 @@ import static java.lang.Integer.parseInt;
  * Provides a custom description to another matcher.
  */
 public class DescribedAs<T> extends BaseMatcher<T> {
-    private final String descriptionTemplate;
     private final Matcher<T> matcher;
     private final Object[] values;
+
+    // the template, parsed once: texts[i] comes before the value at values[argIndexes[i]],
+    // and the last of the texts comes after the last value
+    private final String[] texts;
+    private final int[] argIndexes;
     
     private final static Pattern ARG_PATTERN = Pattern.compile("%([0-9]+)"); 
     
     public DescribedAs(String descriptionTemplate, Matcher<T> matcher, Object[] values) {
-        this.descriptionTemplate = descriptionTemplate;
         this.matcher = matcher;
         this.values = values.clone();
+
+        final List<String> texts = new ArrayList<String>();
+        final List<Integer> argIndexes = new ArrayList<Integer>();
+        final java.util.regex.Matcher arg = ARG_PATTERN.matcher(descriptionTemplate);
+        int textStart = 0;
+        while (arg.find()) {
+            texts.add(descriptionTemplate.substring(textStart, arg.start()));
+            argIndexes.add(argIndex(arg.group(1), descriptionTemplate));
+            textStart = arg.end();
+        }
+        texts.add(descriptionTemplate.substring(textStart));
+
+        this.texts = texts.toArray(new String[texts.size()]);
+        this.argIndexes = new int[argIndexes.size()];
+        for (int i = 0; i < this.argIndexes.length; i++) {
+            this.argIndexes[i] = argIndexes.get(i);
+        }
+    }
+
+    private int argIndex(String digits, String descriptionTemplate) {
+        int index;
+        try {
+            index = parseInt(digits);
+        } catch (NumberFormatException e) {
+            index = -1;
+        }
+        if (index < 0 || index >= values.length) {
+            throw new IllegalArgumentException("Description template \"" + descriptionTemplate + "\" refers to %" + digits
+                    + " but there " + (values.length == 1 ? "is 1 value" : "are " + values.length + " values"));
+        }
+        return index;
     }
     
     @Override
@@ -31,18 +67,11 @@ public class DescribedAs<T> extends BaseMatcher<T> {
 
     @Override
     public void describeTo(Description description) {
-        java.util.regex.Matcher arg = ARG_PATTERN.matcher(descriptionTemplate);
-        
-        int textStart = 0;
-        while (arg.find()) {
-            description.appendText(descriptionTemplate.substring(textStart, arg.start()));
-            description.appendValue(values[parseInt(arg.group(1))]);
-            textStart = arg.end();
-        }
-        
-        if (textStart < descriptionTemplate.length()) {
-            description.appendText(descriptionTemplate.substring(textStart));
+        for (int i = 0; i < argIndexes.length; i++) {
+            description.appendText(texts[i]);
+            description.appendValue(values[argIndexes[i]]);
         }
+        description.appendText(texts[argIndexes.length]);
     }
     
     @Override
@@ -62,6 +91,8 @@ public class DescribedAs<T> extends BaseMatcher<T> {
      *     the matcher to wrap
      * @param values
      *     optional values to insert into the tokenised description
+     * @throws IllegalArgumentException
+     *     if the description refers to a value that was not given
      */
     public static <T> Matcher<T> describedAs(String description, Matcher<T> matcher, Object... values) {
         return new DescribedAs<T>(description, matcher, values);
@@ -3,6 +3,9 @@ package org.hamcrest.core;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.internal.SortedSetShortcut;
+
+import java.util.NavigableSet;
 
 public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
     private final Matcher<? super T> matcher;
@@ -11,6 +14,18 @@ public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
         this.matcher= matcher;
     }
 
+    @Override
+    protected boolean matchesWithoutDescribing(Iterable<? extends T> collection) {
+        // a sorted set can be answered from its ordering; only a mismatch that must be described visits each item
+        if (collection instanceof NavigableSet && matcher instanceof SortedSetShortcut) {
+            final Boolean matches = ((SortedSetShortcut) matcher).matchesEveryItemOf((NavigableSet<?>) collection);
+            if (matches != null) {
+                return matches;
+            }
+        }
+        return super.matchesWithoutDescribing(collection);
+    }
+
     @Override
     public boolean matchesSafely(Iterable<? extends T> collection, Description mismatchDescription) {
         for (T t : collection) {
@@ -3,9 +3,11 @@ package org.hamcrest.core;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.internal.SortedSetShortcut;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NavigableSet;
 
 import static org.hamcrest.core.AllOf.allOf;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -17,6 +19,18 @@ public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterabl
         this.elementMatcher = elementMatcher;
     }
 
+    @Override
+    protected boolean matchesWithoutDescribing(Iterable<? super T> collection) {
+        // a sorted set can be answered from its ordering; only a mismatch that must be described visits each item
+        if (collection instanceof NavigableSet && elementMatcher instanceof SortedSetShortcut) {
+            final Boolean matches = ((SortedSetShortcut) elementMatcher).matchesAnyItemOf((NavigableSet<?>) collection);
+            if (matches != null) {
+                return matches;
+            }
+        }
+        return super.matchesWithoutDescribing(collection);
+    }
+
     @Override
     protected boolean matchesSafely(Iterable<? super T> collection, Description mismatchDescription) {
         if (isEmpty(collection)) {
@@ -5,6 +5,7 @@ import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
 
 
 /**
@@ -28,6 +29,16 @@ public class IsEqual<T> extends BaseMatcher<T> {
         description.appendValue(expectedValue);
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return other != null && other.getClass() == getClass() && areEqual(((IsEqual<?>) other).expectedValue, expectedValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.deepHashCode(new Object[] {expectedValue});
+    }
+
     private static boolean areEqual(Object actual, Object expected) {
         if (actual == null) {
             return expected == null;
@@ -56,6 +56,16 @@ public class IsInstanceOf extends DiagnosingMatcher<Object> {
         description.appendText("an instance of ").appendText(expectedClass.getName());
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return other != null && other.getClass() == getClass() && expectedClass.equals(((IsInstanceOf) other).expectedClass);
+    }
+
+    @Override
+    public int hashCode() {
+        return expectedClass.hashCode();
+    }
+
     /**
      * Creates a matcher that matches when the examined object is an instance of the specified <code>type</code>,
      * as determined by calling the {@link java.lang.Class#isInstance(Object)} method on that type, passing the
@@ -0,0 +1,257 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorates an expensive matcher, remembering whether each item it has examined matched.
+ * <p>
+ * Only the outcome of {@link #matches(Object)} is remembered; descriptions and mismatch
+ * descriptions are delegated to the decorated matcher. Items are looked up either by
+ * {@link Object#equals(Object) equality}, the default, or by identity, and the cache holds
+ * at most a fixed number of outcomes, evicting the least recently used one, or the oldest
+ * one, when full. With weak keys, an outcome is also dropped once its item is garbage
+ * collected. <code>null</code> items are never cached. Memoizing is only correct for
+ * items that do not change once examined.
+ * <p>
+ * Each of the configuration methods returns a new matcher with an empty cache.
+ */
+public class IsMemoized<T> extends BaseMatcher<T> {
+    /** The default maximum number of outcomes remembered. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final Matcher<T> matcher;
+    private final boolean byIdentity;
+    private final boolean weakKeys;
+    private final boolean leastRecentlyUsed;
+    private final int maximumSize;
+
+    private final Cache cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public IsMemoized(Matcher<T> matcher) {
+        this(matcher, false, false, true, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    private IsMemoized(Matcher<T> matcher, boolean byIdentity, boolean weakKeys, boolean leastRecentlyUsed, int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.matcher = matcher;
+        this.byIdentity = byIdentity;
+        this.weakKeys = weakKeys;
+        this.leastRecentlyUsed = leastRecentlyUsed;
+        this.maximumSize = maximumSize;
+        this.cache = new Cache(leastRecentlyUsed, maximumSize);
+    }
+
+    /**
+     * @return a copy of this matcher that looks items up by identity rather than equality
+     */
+    public IsMemoized<T> byIdentity() {
+        return new IsMemoized<T>(matcher, true, weakKeys, leastRecentlyUsed, maximumSize);
+    }
+
+    /**
+     * @return a copy of this matcher that does not keep examined items from being garbage collected
+     */
+    public IsMemoized<T> weakKeys() {
+        return new IsMemoized<T>(matcher, byIdentity, true, leastRecentlyUsed, maximumSize);
+    }
+
+    /**
+     * @return a copy of this matcher that, when full, evicts the outcome cached first
+     *         rather than the one used least recently
+     */
+    public IsMemoized<T> evictingOldest() {
+        return new IsMemoized<T>(matcher, byIdentity, weakKeys, false, maximumSize);
+    }
+
+    /**
+     * @return a copy of this matcher that remembers at most <code>maximumSize</code> outcomes
+     */
+    public IsMemoized<T> maximumSize(int maximumSize) {
+        return new IsMemoized<T>(matcher, byIdentity, weakKeys, leastRecentlyUsed, maximumSize);
+    }
+
+    @Override
+    public boolean matches(Object item) {
+        if (item == null) {
+            return matcher.matches(null);
+        }
+        final Boolean cached;
+        synchronized (cache) {
+            purgeCollectedKeys();
+            cached = cache.get(new StrongKey(item, byIdentity));
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        final boolean matched = matcher.matches(item);
+        synchronized (cache) {
+            cache.put(weakKeys ? new WeakKey(item, byIdentity, cache.collected) : new StrongKey(item, byIdentity), matched);
+        }
+        return matched;
+    }
+
+    /**
+     * @return the number of items whose outcome was found in the cache
+     */
+    public long hitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of items that had to be matched by the decorated matcher
+     */
+    public long missCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return the fraction of lookups that found their outcome in the cache, or 0 if there were none
+     */
+    public double hitRate() {
+        final long hitCount = hits.get();
+        final long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * @return the number of outcomes currently cached
+     */
+    public int size() {
+        synchronized (cache) {
+            purgeCollectedKeys();
+            return cache.size();
+        }
+    }
+
+    /**
+     * @return the keys currently cached, which are {@link Reference}s when keys are weak
+     */
+    List<Object> keys() {
+        synchronized (cache) {
+            return new ArrayList<Object>(cache.keySet());
+        }
+    }
+
+    private void purgeCollectedKeys() {
+        Reference<?> collected;
+        while ((collected = cache.collected.poll()) != null) {
+            cache.remove(collected);
+        }
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        matcher.describeMismatch(item, description);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendDescriptionOf(matcher);
+    }
+
+    /**
+     * Creates a matcher that behaves exactly like <code>matcher</code>, but remembers the
+     * outcome for each item it examines, looked up by equality, up to
+     * {@value #DEFAULT_MAXIMUM_SIZE} outcomes. It suits expensive matchers applied repeatedly
+     * to the same unchanging items.
+     * For example:
+     * <pre>Matcher&lt;Node&gt; valid = memoized(hasXPath("/order/total")).weakKeys();</pre>
+     *
+     * @param matcher
+     *     the matcher whose outcomes should be remembered
+     */
+    public static <T> IsMemoized<T> memoized(Matcher<T> matcher) {
+        return new IsMemoized<T>(matcher);
+    }
+
+    @SuppressWarnings("serial")
+    private static final class Cache extends LinkedHashMap<Object, Boolean> {
+        final ReferenceQueue<Object> collected = new ReferenceQueue<Object>();
+        private final int maximumSize;
+
+        Cache(boolean accessOrder, int maximumSize) {
+            super(16, 0.75f, accessOrder);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+            return size() > maximumSize;
+        }
+    }
+
+    /**
+     * A cache key whose equality is that of the item it refers to, either by identity or by
+     * {@link Object#equals(Object)}. A weak key whose item has been collected equals only itself.
+     */
+    private interface Key {
+        Object item();
+    }
+
+    private static boolean sameItem(Key key, Object other, boolean byIdentity) {
+        if (key == other) {
+            return true;
+        }
+        if (!(other instanceof Key)) {
+            return false;
+        }
+        final Object item = key.item();
+        final Object otherItem = ((Key) other).item();
+        if (item == null || otherItem == null) {
+            return false;
+        }
+        return byIdentity ? item == otherItem : item.equals(otherItem);
+    }
+
+    private static int hash(Object item, boolean byIdentity) {
+        return byIdentity ? System.identityHashCode(item) : item.hashCode();
+    }
+
+    private static final class StrongKey implements Key {
+        private final Object item;
+        private final boolean byIdentity;
+        private final int hash;
+
+        StrongKey(Object item, boolean byIdentity) {
+            this.item = item;
+            this.byIdentity = byIdentity;
+            this.hash = hash(item, byIdentity);
+        }
+
+        @Override public Object item() { return item; }
+        @Override public int hashCode() { return hash; }
+        @Override public boolean equals(Object other) { return sameItem(this, other, byIdentity); }
+    }
+
+    private static final class WeakKey extends WeakReference<Object> implements Key {
+        private final boolean byIdentity;
+        private final int hash;
+
+        WeakKey(Object item, boolean byIdentity, ReferenceQueue<Object> queue) {
+            super(item, queue);
+            this.byIdentity = byIdentity;
+            this.hash = hash(item, byIdentity);
+        }
+
+        @Override public Object item() { return get(); }
+        @Override public int hashCode() { return hash; }
+        @Override public boolean equals(Object other) { return sameItem(this, other, byIdentity); }
+    }
+}
@@ -27,6 +27,20 @@ public class IsNot<T> extends BaseMatcher<T>  {
         description.appendText("not ").appendDescriptionOf(matcher);
     }
 
+    Matcher<T> negated() {
+        return matcher;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other != null && other.getClass() == getClass() && matcher.equals(((IsNot<?>) other).matcher);
+    }
+
+    @Override
+    public int hashCode() {
+        return ~matcher.hashCode();
+    }
+
     
     /**
      * Creates a matcher that wraps an existing matcher, but inverts the logic by which
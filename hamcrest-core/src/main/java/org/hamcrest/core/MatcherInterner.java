@@ -0,0 +1,85 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shares one instance between structurally equal matchers, so that large rule sets in
+ * which the same matchers recur many times hold each of them once.
+ * For example:
+ * <pre>MatcherInterner interner = new MatcherInterner();
+ *Matcher&lt;String&gt; rule = interner.intern(allOf(startsWith("x"), not(equalTo("xy"))));</pre>
+ * <p>
+ * Interning a {@link IsNot}, {@link AllOf} or {@link AnyOf} interns its sub-matchers
+ * first, so equal sub-trees are shared too. Only matchers that define their own
+ * {@link Object#equals(Object)} are kept; any other matcher, such as an {@link IsMemoized},
+ * is returned as it is.
+ * <p>
+ * An interner holds every matcher it keeps for as long as it is itself reachable.
+ * It is safe to use from several threads.
+ */
+public final class MatcherInterner {
+    private static final ClassValue<Boolean> STRUCTURALLY_EQUAL = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private final ConcurrentMap<Matcher<?>, Matcher<?>> interned = new ConcurrentHashMap<Matcher<?>, Matcher<?>>();
+
+    /**
+     * @return the interned matcher equal to <code>matcher</code>, which is
+     *         <code>matcher</code> itself if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Matcher<T> intern(Matcher<T> matcher) {
+        if (!STRUCTURALLY_EQUAL.get(matcher.getClass())) {
+            return matcher;
+        }
+        final Matcher<T> existing = (Matcher<T>) interned.get(matcher);
+        if (existing != null) {
+            return existing;
+        }
+        final Matcher<T> canonical = withInternedParts(matcher);
+        final Matcher<T> raced = (Matcher<T>) interned.putIfAbsent(canonical, canonical);
+        return raced != null ? raced : canonical;
+    }
+
+    /**
+     * @return the number of distinct matchers kept
+     */
+    public int size() {
+        return interned.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Matcher<T> withInternedParts(Matcher<T> matcher) {
+        if (matcher.getClass() == IsNot.class) {
+            return new IsNot<T>(intern(((IsNot<T>) matcher).negated()));
+        }
+        if (matcher.getClass() == AllOf.class) {
+            return new AllOf<T>(internAll(((AllOf<T>) matcher).matchers()));
+        }
+        if (matcher.getClass() == AnyOf.class) {
+            return new AnyOf<T>(internAll(((AnyOf<T>) matcher).matchers()));
+        }
+        return matcher;
+    }
+
+    private <T> List<Matcher<? super T>> internAll(Iterable<Matcher<? super T>> matchers) {
+        final List<Matcher<? super T>> result = new ArrayList<Matcher<? super T>>();
+        for (Matcher<? super T> matcher : matchers) {
+            result.add(intern(matcher));
+        }
+        return result;
+    }
+}
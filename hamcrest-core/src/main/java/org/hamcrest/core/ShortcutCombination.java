@@ -4,9 +4,12 @@ import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 
+import java.util.Iterator;
+
 abstract class ShortcutCombination<T> extends BaseMatcher<T> {
 
     private final Iterable<Matcher<? super T>> matchers;
+    private int hash;
 
     public ShortcutCombination(Iterable<Matcher<? super T>> matchers) {
         this.matchers = matchers;
@@ -30,4 +33,44 @@ abstract class ShortcutCombination<T> extends BaseMatcher<T> {
     public void describeTo(Description description, String operator) {
         description.appendList("(", " " + operator + " ", ")", matchers);
     }
+
+    Iterable<Matcher<? super T>> matchers() {
+        return matchers;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other != null && other.getClass() == getClass()
+                && sameMatchers(matchers, ((ShortcutCombination<?>) other).matchers);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = hash = hashOf(getClass(), matchers);
+        }
+        return result;
+    }
+
+    /**
+     * @return whether the two combinations hold equal matchers, in the same order
+     */
+    static boolean sameMatchers(Iterable<? extends Matcher<?>> matchers, Iterable<? extends Matcher<?>> otherMatchers) {
+        final Iterator<? extends Matcher<?>> others = otherMatchers.iterator();
+        for (Matcher<?> matcher : matchers) {
+            if (!others.hasNext() || !matcher.equals(others.next())) {
+                return false;
+            }
+        }
+        return !others.hasNext();
+    }
+
+    static int hashOf(Class<?> combination, Iterable<? extends Matcher<?>> matchers) {
+        int result = combination.getName().hashCode();
+        for (Matcher<?> matcher : matchers) {
+            result = 31 * result + matcher.hashCode();
+        }
+        return result;
+    }
 }
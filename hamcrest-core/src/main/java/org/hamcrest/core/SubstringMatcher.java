@@ -3,6 +3,8 @@ package org.hamcrest.core;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeMatcher;
 
+import java.util.Objects;
+
 public abstract class SubstringMatcher extends TypeSafeMatcher<String> {
 
     // TODO: Replace String with CharSequence to allow for easy interoperability between
@@ -38,6 +40,22 @@ public abstract class SubstringMatcher extends TypeSafeMatcher<String> {
         }
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+        final SubstringMatcher that = (SubstringMatcher) other;
+        return ignoringCase == that.ignoringCase
+                && relationship.equals(that.relationship)
+                && Objects.equals(substring, that.substring);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(relationship, substring, ignoringCase);
+    }
+
     protected String converted(String arg) { return ignoringCase ? arg.toLowerCase() : arg; }
     protected abstract boolean evalSubstringOf(String string);
 
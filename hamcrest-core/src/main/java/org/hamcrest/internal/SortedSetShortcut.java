@@ -0,0 +1,26 @@
+package org.hamcrest.internal;
+
+import java.util.NavigableSet;
+
+/**
+ * Implemented by item matchers that can answer questions about a whole
+ * {@link NavigableSet} from its ordering, without visiting every item. Collection
+ * matchers such as {@link org.hamcrest.core.Every} use it when they are given a
+ * sorted set.
+ * <p>
+ * Each method returns {@code null} when it cannot answer for the given set, for
+ * example because the set is ordered by a different comparator. The caller then
+ * falls back to checking the items one by one.
+ */
+public interface SortedSetShortcut {
+
+    /**
+     * @return whether the matcher matches at least one item of the set, or null if unknown
+     */
+    Boolean matchesAnyItemOf(NavigableSet<?> set);
+
+    /**
+     * @return whether the matcher matches every item of the set, or null if unknown
+     */
+    Boolean matchesEveryItemOf(NavigableSet<?> set);
+}
@@ -2,7 +2,27 @@ package org.hamcrest;
 
 import org.junit.Test;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertAll;
+import static org.hamcrest.MatcherAssert.assertEventually;
+import static org.hamcrest.MatcherAssert.assertEventuallyAsync;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.MatcherAssert.check;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.*;
 
@@ -93,4 +113,284 @@ public final class MatcherAssertTest {
     canAssertSubtypes() {
         assertThat(1, equalTo((Number) 1));
     }
+
+    @Test public void
+    notifiesListenersAroundAPassingAssertion() {
+        RecordingListener listener = new RecordingListener();
+
+        MatcherAssert.assertThat("reason", "a", equalTo("a"), new AssertionListener[] {listener});
+
+        assertEquals("[before reason a \"a\", after reason a \"a\" true]", listener.events.toString());
+        assertTrue(listener.elapsedNanos >= 0);
+    }
+
+    @Test public void
+    notifiesListenersBeforeThrowingForAFailingAssertion() {
+        RecordingListener first = new RecordingListener();
+        RecordingListener second = new RecordingListener();
+
+        try {
+            MatcherAssert.assertThat("reason", "b", equalTo("a"), new AssertionListener[] {first, second});
+            fail("should have failed");
+        }
+        catch (AssertionError e) {
+            assertEquals("reason\nExpected: \"a\"\n     but: was \"b\"", e.getMessage());
+        }
+
+        assertEquals("[before reason b \"a\", after reason b \"a\" false]", first.events.toString());
+        assertEquals(first.events, second.events);
+    }
+
+    @Test public void
+    notifiesListenersWhenTheMatcherThrows() {
+        RecordingListener listener = new RecordingListener();
+        Matcher<Object> throwing = new BaseMatcher<Object>() {
+            @Override public boolean matches(Object item) { throw new IllegalStateException("boom"); }
+            @Override public void describeTo(Description description) { description.appendText("throwing"); }
+        };
+
+        try {
+            MatcherAssert.assertThat("reason", "x", throwing, new AssertionListener[] {listener});
+            fail("should have thrown");
+        }
+        catch (IllegalStateException expected) { }
+
+        assertEquals("[before reason x throwing, after reason x throwing false]", listener.events.toString());
+    }
+
+    @Test public void
+    findsListenersWithServiceLoader() throws IOException {
+        ClassLoader classLoader = classLoaderWithServices(RecordingListener.class.getName());
+
+        AssertionListener[] listeners = MatcherAssert.loadListeners(classLoader);
+
+        assertEquals(1, listeners.length);
+        assertTrue(listeners[0] instanceof RecordingListener);
+    }
+
+    @Test public void
+    keepsTheListenersFoundBeforeABrokenOne() throws IOException {
+        ClassLoader classLoader = classLoaderWithServices(RecordingListener.class.getName(), "org.hamcrest.NoSuchListener");
+
+        assertEquals(1, MatcherAssert.loadListeners(classLoader).length);
+    }
+
+    @Test public void
+    findsNoListenersWhenNoneAreConfigured() {
+        assertEquals(0, MatcherAssert.loadListeners(new URLClassLoader(new URL[0], getClass().getClassLoader())).length);
+    }
+
+    @Test public void
+    eventuallyReturnsTheFirstMatchingValue() {
+        assertEquals(Integer.valueOf(3), assertEventually(counter(), equalTo(3), 5, TimeUnit.SECONDS));
+    }
+
+    @Test public void
+    eventuallyFailsWithTheLastObservedValue() {
+        try {
+            assertEventually("counting", counter(), equalTo(-1), 20, TimeUnit.MILLISECONDS);
+            fail("should have failed");
+        }
+        catch (AssertionError e) {
+            assertTrue(e.getMessage(), e.getMessage().matches("(?s)counting\nExpected: <-1>\n     but: was <(\\d+)>\n    after: \\d+ attempts over \\d+ms"));
+        }
+    }
+
+    @Test public void
+    eventuallyTreatsExceptionsAsMismatches() {
+        final Exception problem = new Exception("not yet");
+        try {
+            assertEventually(new Callable<Object>() {
+                @Override public Object call() throws Exception { throw problem; }
+            }, equalTo((Object) "x"), 5, TimeUnit.MILLISECONDS);
+            fail("should have failed");
+        }
+        catch (AssertionError e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("but: threw <java.lang.Exception: not yet>"));
+            assertSame(problem, e.getCause());
+        }
+    }
+
+    @Test public void
+    eventuallyAsyncCompletesWithTheMatchingValue() throws Exception {
+        Future<Integer> outcome = assertEventuallyAsync("async", counter(), equalTo(5), 5, TimeUnit.SECONDS);
+
+        assertEquals(Integer.valueOf(5), outcome.get(5, TimeUnit.SECONDS));
+        assertTrue(outcome.isDone());
+    }
+
+    @Test public void
+    eventuallyAsyncFailsWithAnAssertionError() throws Exception {
+        Future<Integer> outcome = assertEventuallyAsync("async", counter(), equalTo(-1), 20, TimeUnit.MILLISECONDS);
+
+        try {
+            outcome.get(5, TimeUnit.SECONDS);
+            fail("should have failed");
+        }
+        catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof AssertionError);
+            assertTrue(e.getCause().getMessage().startsWith("async\nExpected: <-1>\n     but: was <"));
+        }
+    }
+
+    @Test public void
+    eventuallyAsyncStopsWhenCancelled() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Future<Integer> outcome = assertEventuallyAsync("async", counter(calls), equalTo(-1), 5, TimeUnit.SECONDS);
+
+        assertTrue(outcome.cancel(false));
+        int callsWhenCancelled = calls.get();
+        Thread.sleep(50);
+
+        assertTrue(outcome.isCancelled());
+        assertTrue(calls.get() <= callsWhenCancelled + 1);
+    }
+
+    @Test public void
+    assertAllPassesWhenEveryCheckPasses() {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            assertAll(pool, false, check("a", 1, equalTo(1)), check("b", 2, equalTo(2)));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test public void
+    assertAllReportsEveryFailureInBatchOrder() {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            assertAll(pool, false,
+                      check("slow", "x", slowly(equalTo("y"), 50)),
+                      check("ok", 1, equalTo(1)),
+                      check("fast", 2, equalTo(3)));
+            fail("should have failed");
+        } catch (AssertionError e) {
+            assertEquals("2 checks failed:\n\n"
+                       + "1) slow\nExpected: \"y\"\n     but: was \"x\"\n\n"
+                       + "2) fast\nExpected: <3>\n     but: was <2>", e.getMessage());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test public void
+    assertAllFailsFastWithTheFirstFailureInBatchOrder() {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            assertAll(pool, true,
+                      check("first", 1, equalTo(2)),
+                      check("second", 3, counting(equalTo(4), calls)));
+            fail("should have failed");
+        } catch (AssertionError e) {
+            assertEquals("first\nExpected: <2>\n     but: was <1>", e.getMessage());
+        } finally {
+            pool.shutdownNow();
+        }
+        assertTrue(calls.get() <= 1);
+    }
+
+    @Test public void
+    assertAllTreatsExceptionsAsFailures() {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            assertAll(pool, true, check("throws", "x", new CustomMatcher<String>("anything") {
+                @Override public boolean matches(Object item) { throw new IllegalStateException("boom"); }
+            }));
+            fail("should have failed");
+        } catch (AssertionError e) {
+            assertEquals("throws\nExpected: anything\n     but: threw <java.lang.IllegalStateException: boom>", e.getMessage());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test public void
+    assertAllWrapsCheckedExceptionsThrownSneakily() {
+        final IOException problem = new IOException("sneaky");
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            assertAll(pool, false, check("throws", "x", new CustomMatcher<String>("anything") {
+                @Override public boolean matches(Object item) { return MatcherAssertTest.<RuntimeException>sneakyThrow(problem); }
+            }));
+            fail("should have failed");
+        } catch (AssertionError e) {
+            assertSame(problem, e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> boolean sneakyThrow(Throwable e) throws E {
+        throw (E) e;
+    }
+
+    private static <T> Matcher<T> slowly(final Matcher<T> matcher, final long millis) {
+        return new CustomMatcher<T>(StringDescription.toString(matcher)) {
+            @Override public boolean matches(Object item) {
+                try {
+                    Thread.sleep(millis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return matcher.matches(item);
+            }
+            @Override public void describeMismatch(Object item, Description description) {
+                matcher.describeMismatch(item, description);
+            }
+        };
+    }
+
+    private static <T> Matcher<T> counting(final Matcher<T> matcher, final AtomicInteger calls) {
+        return new CustomMatcher<T>(StringDescription.toString(matcher)) {
+            @Override public boolean matches(Object item) {
+                calls.incrementAndGet();
+                return matcher.matches(item);
+            }
+        };
+    }
+
+    private static Callable<Integer> counter() {
+        return counter(new AtomicInteger());
+    }
+
+    private static Callable<Integer> counter(final AtomicInteger calls) {
+        return new Callable<Integer>() {
+            @Override public Integer call() { return calls.incrementAndGet(); }
+        };
+    }
+
+    private static ClassLoader classLoaderWithServices(String... providers) throws IOException {
+        File root = File.createTempFile("listeners", "");
+        assertTrue(root.delete() && new File(root, "META-INF/services").mkdirs());
+        File services = new File(root, "META-INF/services/" + AssertionListener.class.getName());
+        root.deleteOnExit();
+        new File(root, "META-INF").deleteOnExit();
+        services.getParentFile().deleteOnExit();
+        services.deleteOnExit();
+        try (OutputStream out = new FileOutputStream(services)) {
+            for (String provider : providers) {
+                out.write((provider + "\n").getBytes("UTF-8"));
+            }
+        }
+        return new URLClassLoader(new URL[] {root.toURI().toURL()}, MatcherAssertTest.class.getClassLoader());
+    }
+
+    public static final class RecordingListener implements AssertionListener {
+        final List<String> events = new ArrayList<String>();
+        long elapsedNanos = -1;
+
+        @Override
+        public void beforeAssertion(String reason, Object actual, Matcher<?> matcher) {
+            events.add("before " + reason + " " + actual + " " + StringDescription.toString(matcher));
+        }
+
+        @Override
+        public void afterAssertion(String reason, Object actual, Matcher<?> matcher, boolean matched, long elapsedNanos) {
+            events.add("after " + reason + " " + actual + " " + StringDescription.toString(matcher) + " " + matched);
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
 }
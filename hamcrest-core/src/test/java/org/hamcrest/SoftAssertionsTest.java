@@ -0,0 +1,96 @@
+package org.hamcrest;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.*;
+
+public final class SoftAssertionsTest {
+
+    @Test public void
+    passesWhenEveryCheckPasses() {
+        SoftAssertions softly = new SoftAssertions();
+
+        assertTrue(softly.checkThat("a", 1, equalTo(1)));
+        assertTrue(softly.checkThat("b", true));
+        softly.assertAll();
+        assertEquals(0, softly.failureCount());
+        assertEquals("", softly.report());
+    }
+
+    @Test public void
+    reportsEveryFailedCheckTogether() {
+        SoftAssertions softly = new SoftAssertions();
+
+        assertFalse(softly.checkThat("first", 1, equalTo(2)));
+        softly.checkThat("second", 3, equalTo(3));
+        assertFalse(softly.checkThat("third", false));
+
+        try {
+            softly.assertAll();
+        } catch (AssertionError e) {
+            assertEquals("2 checks failed:\n\n"
+                       + "1) first\nExpected: <2>\n     but: was <1>\n\n"
+                       + "2) third", e.getMessage());
+            return;
+        }
+        fail("should have failed");
+    }
+
+    @Test public void
+    describesNothingUntilTheReportIsRendered() {
+        CountingMatcher matcher = new CountingMatcher();
+        SoftAssertions softly = new SoftAssertions();
+
+        softly.checkThat("one", "value", matcher);
+        softly.checkThat("two", "value", matcher);
+
+        assertEquals(2, matcher.matches.get());
+        assertEquals(0, matcher.mismatches.get());
+
+        softly.report();
+        assertEquals(2, matcher.matches.get());
+        assertEquals(2, matcher.mismatches.get());
+    }
+
+    @Test public void
+    onlyCountsTheFailuresBeyondTheLengthLimit() {
+        CountingMatcher matcher = new CountingMatcher();
+        SoftAssertions softly = new SoftAssertions(30);
+
+        softly.checkThat("one", "value", matcher);
+        softly.checkThat("two", "value", matcher);
+        softly.checkThat("three", "value", matcher);
+
+        String report = softly.report();
+        assertEquals(1, matcher.mismatches.get());
+        assertTrue(report, report.startsWith("3 checks failed:\n\n1) one\nExpec..."));
+        assertTrue(report, report.endsWith("\n\n... and 2 more failures"));
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    rejectsANegativeLengthLimit() {
+        new SoftAssertions(-1);
+    }
+
+    private static final class CountingMatcher extends BaseMatcher<Object> {
+        final AtomicInteger matches = new AtomicInteger();
+        final AtomicInteger mismatches = new AtomicInteger();
+
+        @Override public boolean matches(Object item) {
+            matches.incrementAndGet();
+            return false;
+        }
+
+        @Override public void describeMismatch(Object item, Description description) {
+            mismatches.incrementAndGet();
+            description.appendText("no");
+        }
+
+        @Override public void describeTo(Description description) {
+            description.appendText("nothing");
+        }
+    }
+}
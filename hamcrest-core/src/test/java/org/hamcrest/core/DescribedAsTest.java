@@ -46,4 +46,17 @@ public final class DescribedAsTest {
 
         assertMismatchDescription("was <1>", matcher, 1);
     }
+
+    @Test public void
+    rendersTheSameDescriptionEveryTime() {
+        Matcher<?> matcher = describedAs("%1 before %0, %1 again", anything(), 33, 97);
+
+        assertDescription("<97> before <33>, <97> again", matcher);
+        assertDescription("<97> before <33>, <97> again", matcher);
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    rejectsTemplatesThatReferToMissingValues() {
+        describedAs("value = %1", anything(), 33);
+    }
 }
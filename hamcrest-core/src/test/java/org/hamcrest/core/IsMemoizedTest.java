@@ -0,0 +1,145 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+import java.lang.ref.Reference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
+import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
+import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsMemoized.memoized;
+import static org.junit.Assert.assertEquals;
+
+public final class IsMemoizedTest {
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<String> matcher = memoized(equalTo("irrelevant"));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    delegatesDescriptionsToTheDecoratedMatcher() {
+        Matcher<String> matcher = memoized(equalTo("hi"));
+
+        assertMatches(matcher, "hi");
+        assertDoesNotMatch(matcher, "oi");
+        assertDescription("\"hi\"", matcher);
+        assertMismatchDescription("was \"oi\"", matcher, "oi");
+    }
+
+    @Test public void
+    remembersOutcomesOfEqualItems() {
+        CountingMatcher counting = new CountingMatcher();
+        IsMemoized<Object> matcher = memoized(counting);
+
+        matcher.matches(new String("a"));
+        matcher.matches(new String("a"));
+        matcher.matches("b");
+
+        assertEquals(2, counting.calls.get());
+        assertEquals(1, matcher.hitCount());
+        assertEquals(2, matcher.missCount());
+        assertEquals(1.0 / 3, matcher.hitRate(), 1e-9);
+    }
+
+    @Test public void
+    canLookItemsUpByIdentity() {
+        CountingMatcher counting = new CountingMatcher();
+        IsMemoized<Object> matcher = memoized(counting).byIdentity();
+        String item = new String("a");
+
+        matcher.matches(item);
+        matcher.matches(item);
+        matcher.matches(new String("a"));
+
+        assertEquals(2, counting.calls.get());
+        assertEquals(1, matcher.hitCount());
+    }
+
+    @Test public void
+    evictsTheLeastRecentlyUsedOutcomeWhenFull() {
+        CountingMatcher counting = new CountingMatcher();
+        IsMemoized<Object> matcher = memoized(counting).maximumSize(2);
+
+        matcher.matches("a");
+        matcher.matches("b");
+        matcher.matches("a");
+        matcher.matches("c");
+        matcher.matches("a");
+        assertEquals(3, counting.calls.get());
+
+        matcher.matches("b");
+        assertEquals(4, counting.calls.get());
+        assertEquals(2, matcher.size());
+    }
+
+    @Test public void
+    canEvictTheOldestOutcomeWhenFull() {
+        CountingMatcher counting = new CountingMatcher();
+        IsMemoized<Object> matcher = memoized(counting).maximumSize(2).evictingOldest();
+
+        matcher.matches("a");
+        matcher.matches("b");
+        matcher.matches("a");
+        matcher.matches("c");
+        matcher.matches("a");
+
+        assertEquals(4, counting.calls.get());
+    }
+
+    @Test public void
+    weakKeysStillRememberReachableItems() {
+        CountingMatcher counting = new CountingMatcher();
+        IsMemoized<Object> matcher = memoized(counting).weakKeys();
+        Object item = new Object();
+
+        matcher.matches(item);
+        matcher.matches(item);
+
+        assertEquals(1, counting.calls.get());
+        assertEquals(1, matcher.size());
+    }
+
+    @Test public void
+    weakKeysForgetItemsOnceCollected() {
+        CountingMatcher counting = new CountingMatcher();
+        IsMemoized<Object> matcher = memoized(counting).weakKeys();
+        Object kept = new Object();
+        Object collected = new Object();
+
+        matcher.matches(kept);
+        matcher.matches(collected);
+        for (Object key : matcher.keys()) {
+            if (((Reference<?>) key).get() == collected) {
+                ((Reference<?>) key).enqueue();
+            }
+        }
+
+        assertEquals(1, matcher.size());
+        matcher.matches(kept);
+        assertEquals(2, counting.calls.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    rejectsANonPositiveMaximumSize() {
+        memoized(equalTo("a")).maximumSize(0);
+    }
+
+    private static final class CountingMatcher extends IsAnything<Object> {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override public boolean matches(Object item) {
+            calls.incrementAndGet();
+            return true;
+        }
+    }
+}
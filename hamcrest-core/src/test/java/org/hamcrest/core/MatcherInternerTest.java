@@ -0,0 +1,98 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsMemoized.memoized;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.hamcrest.core.StringStartsWith.startsWithIgnoringCase;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+public final class MatcherInternerTest {
+
+    @Test public void
+    coreMatchersAreStructurallyEqual() {
+        assertEqualMatchers(equalTo("x"), equalTo("x"));
+        assertEqualMatchers(equalTo(new int[] {1, 2}), equalTo(new int[] {1, 2}));
+        assertEqualMatchers(not(equalTo("x")), not(equalTo("x")));
+        assertEqualMatchers(instanceOf(String.class), instanceOf(String.class));
+        assertEqualMatchers(startsWith("x"), startsWith("x"));
+        assertEqualMatchers(allOf(equalTo("x"), startsWith("y")), allOf(equalTo("x"), startsWith("y")));
+        assertEqualMatchers(anyOf(equalTo("x"), startsWith("y")), anyOf(equalTo("x"), startsWith("y")));
+
+        assertNotEquals(equalTo("x"), equalTo("y"));
+        assertNotEquals(equalTo("x"), not(equalTo("x")));
+        assertNotEquals(startsWith("x"), containsString("x"));
+        assertNotEquals(startsWith("x"), startsWithIgnoringCase("x"));
+        assertNotEquals(allOf(equalTo("x"), startsWith("y")), anyOf(equalTo("x"), startsWith("y")));
+        assertNotEquals(allOf(equalTo("x"), startsWith("y")), allOf(startsWith("y"), equalTo("x")));
+        assertNotEquals(allOf(equalTo("x")), allOf(equalTo("x"), equalTo("x")));
+    }
+
+    @Test public void
+    sharesOneInstanceOfEqualMatchers() {
+        MatcherInterner interner = new MatcherInterner();
+
+        Matcher<String> first = interner.intern(equalTo("x"));
+
+        assertSame(first, interner.intern(equalTo("x")));
+        assertEquals(1, interner.size());
+    }
+
+    @Test public void
+    sharesEqualSubMatchers() {
+        MatcherInterner interner = new MatcherInterner();
+
+        Matcher<String> shared = interner.intern(equalTo("x"));
+        Matcher<String> tree = interner.intern(allOf(not(equalTo("x")), startsWith("y")));
+        Matcher<String> other = interner.intern(anyOf(equalTo("x"), not(equalTo("x"))));
+
+        assertSame(shared, ((IsNot<?>) ((AllOf<?>) tree).matchers().iterator().next()).negated());
+        assertEquals(5, interner.size());
+        assertSame(tree, interner.intern(allOf(not(equalTo("x")), startsWith("y"))));
+        assertSame(other, interner.intern(anyOf(equalTo("x"), not(equalTo("x")))));
+    }
+
+    @Test public void
+    doesNotConfuseSubclassesWithTheirBaseClass() {
+        MatcherInterner interner = new MatcherInterner();
+        Matcher<String> plain = interner.intern(equalTo("x"));
+        Matcher<String> custom = new IsEqual<String>("x") {
+            @Override public void describeMismatch(Object item, Description description) {
+                description.appendText("custom");
+            }
+        };
+
+        assertNotEquals(plain, custom);
+        assertNotEquals(custom, plain);
+        assertSame(custom, interner.intern(custom));
+        assertNotEquals(new IsInstanceOf(String.class), new IsInstanceOf(String.class) { });
+        assertNotEquals(not(equalTo("x")), new IsNot<String>(equalTo("x")) { });
+        assertNotEquals(allOf(equalTo("x")), new AllOf<String>(Arrays.<Matcher<? super String>>asList(equalTo("x"))) { });
+    }
+
+    @Test public void
+    returnsMatchersWithoutStructuralEqualityAsTheyAre() {
+        MatcherInterner interner = new MatcherInterner();
+        Matcher<String> memoized = memoized(equalTo("x"));
+
+        assertSame(memoized, interner.intern(memoized));
+        assertEquals(0, interner.size());
+    }
+
+    private static void assertEqualMatchers(Matcher<?> matcher, Matcher<?> other) {
+        assertEquals(matcher, other);
+        assertEquals(matcher.hashCode(), other.hashCode());
+    }
+}
@@ -163,6 +163,20 @@ public class Matchers {
     return org.hamcrest.core.DescribedAs.<T>describedAs(description, matcher, values);
   }
 
+  /**
+   * Creates a matcher that behaves exactly like <code>matcher</code>, but remembers the
+   * outcome for each item it examines, looked up by equality, up to 1024 outcomes. It suits
+   * expensive matchers applied repeatedly to the same unchanging items.
+   * For example:
+   * <pre>Matcher&lt;Node&gt; valid = memoized(hasXPath("/order/total")).weakKeys();</pre>
+   * 
+   * @param matcher
+   *     the matcher whose outcomes should be remembered
+   */
+  public static <T> org.hamcrest.core.IsMemoized<T> memoized(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.core.IsMemoized.<T>memoized(matcher);
+  }
+
   /**
    * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
    * examined {@link Iterable} yields items that are all matched by the specified
@@ -1232,6 +1246,70 @@ public class Matchers {
     return org.hamcrest.number.BigDecimalCloseTo.closeTo(operand, error);
   }
 
+  /**
+   * Creates a matcher of {@link Double}s that matches when an examined double is equal
+   * to the specified <code>operand</code>, within a range of +/- <code>relativeError</code>
+   * times the magnitude of the operand.
+   * For example:
+   * <pre>assertThat(101.0, is(closeToRelatively(100.0, 0.01)))</pre>
+   * 
+   * @param operand
+   *     the expected value of matching doubles
+   * @param relativeError
+   *     the fraction of the operand (+/-) within which matches will be allowed
+   */
+  public static org.hamcrest.Matcher<java.lang.Double> closeToRelatively(double operand, double relativeError) {
+    return org.hamcrest.number.IsCloseTo.closeToRelatively(operand, relativeError);
+  }
+
+  /**
+   * Creates a matcher of {@link Double}s that matches when an examined double is at most
+   * <code>ulps</code> representable doubles away from the specified <code>operand</code>.
+   * Positive and negative zero count as the same value, and NaN matches nothing.
+   * For example:
+   * <pre>assertThat(0.1 + 0.2, is(closeToUlps(0.3, 1)))</pre>
+   * 
+   * @param operand
+   *     the expected value of matching doubles
+   * @param ulps
+   *     the number of units in the last place (+/-) within which matches will be allowed
+   */
+  public static org.hamcrest.Matcher<java.lang.Double> closeToUlps(double operand, long ulps) {
+    return org.hamcrest.number.IsCloseTo.closeToUlps(operand, ulps);
+  }
+
+  /**
+   * Creates a matcher of {@link java.math.BigDecimal}s that matches when an examined BigDecimal is equal
+   * to the specified <code>operand</code>, within a range of +/- <code>relativeError</code> times the
+   * magnitude of the operand. The comparison for equality is done by BigDecimals
+   * {@link java.math.BigDecimal#compareTo(java.math.BigDecimal)} method.
+   * For example:
+   * <pre>assertThat(new BigDecimal("101"), is(closeToRelatively(new BigDecimal("100"), new BigDecimal("0.01"))))</pre>
+   * 
+   * @param operand
+   *     the expected value of matching BigDecimals
+   * @param relativeError
+   *     the fraction of the operand (+/-) within which matches will be allowed
+   */
+  public static org.hamcrest.Matcher<java.math.BigDecimal> closeToRelatively(java.math.BigDecimal operand, java.math.BigDecimal relativeError) {
+    return org.hamcrest.number.BigDecimalCloseTo.closeToRelatively(operand, relativeError);
+  }
+
+  /**
+   * Creates a matcher of {@link java.math.BigInteger}s that matches when an examined BigInteger is equal
+   * to the specified <code>operand</code>, within a range of +/- <code>error</code>.
+   * For example:
+   * <pre>assertThat(BigInteger.valueOf(103), is(closeTo(BigInteger.valueOf(100), BigInteger.valueOf(3))))</pre>
+   * 
+   * @param operand
+   *     the expected value of matching BigIntegers
+   * @param error
+   *     the delta (+/-) within which matches will be allowed
+   */
+  public static org.hamcrest.Matcher<java.math.BigInteger> closeTo(java.math.BigInteger operand, java.math.BigInteger error) {
+    return org.hamcrest.number.BigIntegerCloseTo.closeTo(operand, error);
+  }
+
   /**
    * Creates a matcher of {@link Comparable} object that matches when the examined object is
    * equal to the specified value, as reported by the <code>compareTo</code> method of the
@@ -1301,6 +1379,42 @@ public class Matchers {
     return org.hamcrest.number.OrderingComparison.<T>lessThanOrEqualTo(value);
   }
 
+  /**
+   * Creates a matcher of {@link Comparable} object that matches when the examined object is
+   * between the specified values, inclusive, as reported by the <code>compareTo</code> method
+   * of the <b>examined</b> object.
+   * For example:
+   * <pre>assertThat(2, between(1, 3))</pre>
+   * 
+   * @param from
+   *     the lowest value that matches
+   * @param to
+   *     the highest value that matches
+   */
+  public static <T extends java.lang.Comparable<T>> org.hamcrest.Matcher<T> between(T from, T to) {
+    return org.hamcrest.number.OrderingComparison.<T>between(from, to);
+  }
+
+  /**
+   * Creates a matcher of {@link Comparable} object that matches when the examined object lies
+   * in the range between the specified values, as reported by the <code>compareTo</code> method
+   * of the <b>examined</b> object. Each bound may be open or closed.
+   * For example:
+   * <pre>assertThat(2, inRange(1, true, 3, false))</pre>
+   * 
+   * @param from
+   *     the lower bound of the range
+   * @param fromInclusive
+   *     true if the lower bound itself matches
+   * @param to
+   *     the upper bound of the range
+   * @param toInclusive
+   *     true if the upper bound itself matches
+   */
+  public static <T extends java.lang.Comparable<T>> org.hamcrest.Matcher<T> inRange(T from, boolean fromInclusive, T to, boolean toInclusive) {
+    return org.hamcrest.number.OrderingComparison.<T>inRange(from, fromInclusive, to, toInclusive);
+  }
+
   /**
    * Creates a matcher of {@link String} that matches when the examined string is equal to
    * the specified expectedString, ignoring case.
@@ -1410,6 +1524,48 @@ public class Matchers {
     return org.hamcrest.text.MatchesPattern.matchesPattern(regex);
   }
 
+  /**
+   * Creates a matcher of {@link java.lang.String} that matches when the given
+   * {@link java.util.regex.Pattern} can be found anywhere within the examined string.
+   * For example:
+   * <pre>assertThat("myfoobar", containsPattern(Pattern.compile("o+b")))</pre>
+   */
+  public static org.hamcrest.Matcher<java.lang.String> containsPattern(java.util.regex.Pattern pattern) {
+    return org.hamcrest.text.MatchesPattern.containsPattern(pattern);
+  }
+
+  /**
+   * Creates a matcher of {@link java.lang.String} that matches when the given regular
+   * expression, treated as a {@link java.util.regex.Pattern}, can be found anywhere within
+   * the examined string.
+   * For example:
+   * <pre>assertThat("myfoobar", containsPattern("o+b"))</pre>
+   */
+  public static org.hamcrest.Matcher<java.lang.String> containsPattern(java.lang.String regex) {
+    return org.hamcrest.text.MatchesPattern.containsPattern(regex);
+  }
+
+  /**
+   * Creates a matcher of {@link java.lang.String} that matches when the start of the
+   * examined string matches the given {@link java.util.regex.Pattern}.
+   * For example:
+   * <pre>assertThat("myfoobar", startsWithPattern(Pattern.compile("m[xy]")))</pre>
+   */
+  public static org.hamcrest.Matcher<java.lang.String> startsWithPattern(java.util.regex.Pattern pattern) {
+    return org.hamcrest.text.MatchesPattern.startsWithPattern(pattern);
+  }
+
+  /**
+   * Creates a matcher of {@link java.lang.String} that matches when the start of the
+   * examined string matches the given regular expression, treated as a
+   * {@link java.util.regex.Pattern}.
+   * For example:
+   * <pre>assertThat("myfoobar", startsWithPattern("m[xy]"))</pre>
+   */
+  public static org.hamcrest.Matcher<java.lang.String> startsWithPattern(java.lang.String regex) {
+    return org.hamcrest.text.MatchesPattern.startsWithPattern(regex);
+  }
+
   /**
    * Creates a matcher of {@link String} that matches when the examined string contains all of
    * the specified substrings, considering the order of their appearance.
@@ -1533,6 +1689,66 @@ public class Matchers {
     return org.hamcrest.beans.HasPropertyWithValue.<T>hasProperty(propertyName, valueMatcher);
   }
 
+  /**
+   * Creates a matcher that matches when the examined object has an instance field
+   * with the specified name whose value satisfies the specified matcher.
+   * For example:
+   * <pre>assertThat(myPoint, hasField("x", equalTo(1)))</pre>
+   * 
+   * @param fieldName
+   *     the name of the field that examined objects should possess
+   * @param valueMatcher
+   *     a matcher for the value of the specified field of the examined object
+   */
+  public static <T> org.hamcrest.Matcher<T> hasField(java.lang.String fieldName, org.hamcrest.Matcher<?> valueMatcher) {
+    return org.hamcrest.beans.HasFieldWithValue.<T>hasField(fieldName, valueMatcher);
+  }
+
+  /**
+   * Creates a matcher that matches when the examined object is structurally equal to
+   * the specified object, comparing arrays, lists, maps and the fields of other objects
+   * deeply. The mismatch description reports up to 10 differences.
+   * For example:
+   * <pre>assertThat(myOrder, deeplyEqualTo(expectedOrder))</pre>
+   * 
+   * @param expected
+   *     the object graph against which examined objects are compared
+   */
+  public static <T> org.hamcrest.Matcher<T> deeplyEqualTo(T expected) {
+    return org.hamcrest.beans.IsDeeplyEqual.<T>deeplyEqualTo(expected);
+  }
+
+  /**
+   * Creates a matcher that matches when the examined object is structurally equal to
+   * the specified object, comparing arrays, lists, maps and the fields of other objects
+   * deeply. The comparison stops once it has found the given number of differences.
+   * For example:
+   * <pre>assertThat(myOrder, deeplyEqualTo(expectedOrder, 3))</pre>
+   * 
+   * @param expected
+   *     the object graph against which examined objects are compared
+   * @param maxDifferences
+   *     the most differences to find and report
+   */
+  public static <T> org.hamcrest.Matcher<T> deeplyEqualTo(T expected, int maxDifferences) {
+    return org.hamcrest.beans.IsDeeplyEqual.<T>deeplyEqualTo(expected, maxDifferences);
+  }
+
+  /**
+   * Creates a matcher that matches when the examined object has the same instance
+   * field values as the specified object, compared deeply. Unlike
+   * {@link #samePropertyValuesAs(Object)}, this reads fields
+   * directly, so it works for value objects without JavaBean getters.
+   * For example:
+   * <pre>assertThat(myValue, sameFieldValuesAs(myExpectedValue))</pre>
+   * 
+   * @param expectedObject
+   *     the object against which examined objects are compared
+   */
+  public static <T> org.hamcrest.Matcher<T> sameFieldValuesAs(T expectedObject) {
+    return org.hamcrest.beans.SameFieldValuesAs.<T>sameFieldValuesAs(expectedObject);
+  }
+
   /**
    * Creates a matcher that matches when the examined object has values for all of
    * its JavaBean properties that are equal to the corresponding values of the
@@ -1547,6 +1763,21 @@ public class Matchers {
     return org.hamcrest.beans.SamePropertyValuesAs.<T>samePropertyValuesAs(expectedBean);
   }
 
+  /**
+   * Creates a matcher that matches when the examined object has values for all of
+   * its JavaBean properties that are equal to the corresponding values of the
+   * specified bean. Unlike {@link #samePropertyValuesAs(Object)}, every property is
+   * compared and the mismatch description lists all the differences, not just the first.
+   * For example:
+   * <pre>assertThat(myBean, samePropertyValuesReportingAllDifferencesAs(myExpectedBean))</pre>
+   * 
+   * @param expectedBean
+   *     the bean against which examined beans are compared
+   */
+  public static <T> org.hamcrest.Matcher<T> samePropertyValuesReportingAllDifferencesAs(T expectedBean) {
+    return org.hamcrest.beans.SamePropertyValuesAs.<T>samePropertyValuesReportingAllDifferencesAs(expectedBean);
+  }
+
   /**
    * Creates a matcher of {@link org.w3c.dom.Node}s that matches when the examined node has a value at the
    * specified <code>xPath</code> that satisfies the specified <code>valueMatcher</code>.
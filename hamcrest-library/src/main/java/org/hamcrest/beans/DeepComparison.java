@@ -0,0 +1,480 @@
+package org.hamcrest.beans;
+
+import org.hamcrest.Description;
+import org.hamcrest.beans.FieldUtil.ClassFields;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One deep comparison of an expected object graph against an actual one.
+ * <p>
+ * Each (expected, actual) pair of objects is compared at most once: a pair seen again,
+ * whether through a shared subgraph or a cycle, is taken to be the same, and any
+ * difference in it has already been recorded. Values whose class overrides
+ * {@link Object#equals(Object)} are compared with it, except that arrays, collections and
+ * maps are compared element by element: sets by finding a deeply equal element for each
+ * element, other collections, and iterables that do not override <code>equals</code>, in
+ * iteration order. Other objects are compared field by field. The comparison stops once it
+ * has recorded the maximum number of differences.
+ * <p>
+ * Pairs still to be compared are kept on an explicit stack rather than the call stack,
+ * so graphs of any depth can be compared.
+ */
+final class DeepComparison {
+    private final int maxDifferences;
+    private final Set<IdentityPair> visited;
+    /** The pairs this comparison added to a shared visited set, or null if it is not a trial. */
+    private final List<IdentityPair> added;
+    private final Deque<Object> pending = new ArrayDeque<Object>();
+    private final List<Difference> differences = new ArrayList<Difference>();
+    private boolean stopped = false;
+
+    DeepComparison(int maxDifferences) {
+        this(maxDifferences, new HashSet<IdentityPair>(), null);
+    }
+
+    private DeepComparison(int maxDifferences, Set<IdentityPair> visited, List<IdentityPair> added) {
+        if (maxDifferences < 1) {
+            throw new IllegalArgumentException("maxDifferences must be at least 1, was " + maxDifferences);
+        }
+        this.maxDifferences = maxDifferences;
+        this.visited = visited;
+        this.added = added;
+    }
+
+    /**
+     * Compares the given fields of two objects, which need not be of the same class.
+     * If some of the fields cannot be read, the objects are compared with equals() instead.
+     * @return true if no difference has been recorded
+     */
+    boolean compareFields(ClassFields fields, Object expected, Object actual) {
+        if (!fields.allReadable) {
+            if (!expected.equals(actual)) {
+                was(null, actual);
+            }
+        } else if (visit(expected, actual)) {
+            fieldsOf(fields, expected, actual, null);
+            run();
+        }
+        return differences.isEmpty();
+    }
+
+    /**
+     * @return true if no difference has been recorded
+     */
+    boolean compare(Object expected, Object actual) {
+        pending.push(new Pair(expected, actual, null));
+        run();
+        return differences.isEmpty();
+    }
+
+    List<Difference> differences() {
+        return Collections.unmodifiableList(differences);
+    }
+
+    /**
+     * @return true if the comparison reached the maximum number of differences and
+     *         did not look any further, so there may be more.
+     */
+    boolean stoppedEarly() {
+        return stopped;
+    }
+
+    private void run() {
+        while (!stopped && !pending.isEmpty()) {
+            final Object next = pending.pop();
+            if (next instanceof Difference) {
+                record((Difference) next);
+            } else {
+                final Pair pair = (Pair) next;
+                values(pair.expected, pair.actual, pair.path);
+            }
+        }
+    }
+
+    /**
+     * Schedules steps, each a {@link Pair} or a {@link Difference}, to be taken in the given order.
+     */
+    private void schedule(List<Object> steps) {
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            pending.push(steps.get(i));
+        }
+    }
+
+    private void values(Object expected, Object actual, Path path) {
+        if (expected == actual) {
+            return;
+        }
+        if (expected == null || actual == null) {
+            was(path, actual);
+            return;
+        }
+        final Class<?> type = expected.getClass();
+        if (type.isArray() && type == actual.getClass()) {
+            arrays(expected, actual, path);
+            return;
+        }
+        final ClassFields fields = FieldUtil.fieldsOf(type);
+        final ClassFields actualFields = type == actual.getClass() ? fields : FieldUtil.fieldsOf(actual.getClass());
+        if (fields.isMap && actualFields.isMap) {
+            maps((Map<?, ?>) expected, (Map<?, ?>) actual, path);
+        } else if (fields.isSet && actualFields.isSet) {
+            sets((Set<?>) expected, (Set<?>) actual, path);
+        } else if (fields.isCollection && actualFields.isCollection) {
+            if (((Collection<?>) expected).size() != ((Collection<?>) actual).size()) {
+                differ(path, "had size " + ((Collection<?>) actual).size());
+            } else {
+                inOrder((Iterable<?>) expected, (Iterable<?>) actual, path);
+            }
+        } else if (fields.isPlainIterable && actualFields.isPlainIterable) {
+            inOrder((Iterable<?>) expected, (Iterable<?>) actual, path);
+        } else if (type != actual.getClass()) {
+            differ(path, "is incompatible type: " + actual.getClass().getSimpleName());
+        } else if (fields.comparedWithEquals) {
+            if (!expected.equals(actual)) {
+                was(path, actual);
+            }
+        } else if (visit(expected, actual)) {
+            fieldsOf(fields, expected, actual, path);
+        }
+    }
+
+    private void fieldsOf(ClassFields fields, Object expected, Object actual, Path path) {
+        final List<Object> steps = new ArrayList<Object>(fields.fields.size());
+        for (FieldAccessor field : fields.fields) {
+            steps.add(new Pair(field.read(expected), field.read(actual), new Path(path, field.name(), true)));
+        }
+        schedule(steps);
+    }
+
+    private void arrays(Object expected, Object actual, Path path) {
+        final int length = Array.getLength(expected);
+        if (length != Array.getLength(actual)) {
+            differ(path, "had length " + Array.getLength(actual));
+            return;
+        }
+        if (expected.getClass().getComponentType().isPrimitive()) {
+            if (!Arrays.deepEquals(new Object[] {expected}, new Object[] {actual})) {
+                for (int i = 0; i < length && !stopped; i++) {
+                    if (!Array.get(expected, i).equals(Array.get(actual, i))) {
+                        was(new Path(path, i), Array.get(actual, i));
+                    }
+                }
+            }
+            return;
+        }
+        if (visit(expected, actual)) {
+            final Object[] expectedElements = (Object[]) expected;
+            final Object[] actualElements = (Object[]) actual;
+            final List<Object> steps = new ArrayList<Object>(length);
+            for (int i = 0; i < length; i++) {
+                steps.add(new Pair(expectedElements[i], actualElements[i], new Path(path, i)));
+            }
+            schedule(steps);
+        }
+    }
+
+    private void inOrder(Iterable<?> expected, Iterable<?> actual, Path path) {
+        if (!visit(expected, actual)) {
+            return;
+        }
+        final Iterator<?> expectedElements = expected.iterator();
+        final Iterator<?> actualElements = actual.iterator();
+        final List<Object> steps = new ArrayList<Object>();
+        int i = 0;
+        for (; expectedElements.hasNext() && actualElements.hasNext(); i++) {
+            steps.add(new Pair(expectedElements.next(), actualElements.next(), new Path(path, i)));
+        }
+        if (expectedElements.hasNext() != actualElements.hasNext()) {
+            while (actualElements.hasNext()) {
+                actualElements.next();
+                i++;
+            }
+            steps.add(new Difference(path, "had size " + i, null, false));
+        }
+        schedule(steps);
+    }
+
+    /**
+     * Matches each expected element with a deeply equal actual one. Candidates are first
+     * narrowed down by {@link #shallowHash(Object)}, and each trial shares this comparison's
+     * visited pairs, so what one trial has found equal is not compared again.
+     */
+    private void sets(Set<?> expected, Set<?> actual, Path path) {
+        if (!visit(expected, actual)) {
+            return;
+        }
+        final List<Object> candidates = new ArrayList<Object>(actual);
+        final boolean[] matched = new boolean[candidates.size()];
+        final Map<Integer, List<Integer>> byHash = new HashMap<Integer, List<Integer>>();
+        for (int i = 0; i < candidates.size(); i++) {
+            final Integer hash = shallowHash(candidates.get(i));
+            List<Integer> bucket = byHash.get(hash);
+            if (bucket == null) {
+                bucket = new ArrayList<Integer>(1);
+                byHash.put(hash, bucket);
+            }
+            bucket.add(i);
+        }
+        final List<Object> steps = new ArrayList<Object>();
+        for (Object element : expected) {
+            final Integer index = removeDeeplyEqual(byHash.get(shallowHash(element)), candidates, element);
+            if (index == null) {
+                steps.add(new Difference(path, "did not contain ", element, true));
+            } else {
+                matched[index] = true;
+            }
+        }
+        for (int i = 0; i < candidates.size(); i++) {
+            if (!matched[i]) {
+                steps.add(new Difference(path, "had unexpected ", candidates.get(i), true));
+            }
+        }
+        schedule(steps);
+    }
+
+    /**
+     * @return the index of the candidate in the bucket found deeply equal to the element,
+     *         which is removed from the bucket, or null if there was none
+     */
+    private Integer removeDeeplyEqual(List<Integer> bucket, List<Object> candidates, Object element) {
+        if (bucket == null) {
+            return null;
+        }
+        for (Iterator<Integer> i = bucket.iterator(); i.hasNext();) {
+            final Integer index = i.next();
+            if (trial(element, candidates.get(index))) {
+                i.remove();
+                return index;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compares two values in a comparison that shares the visited pairs, keeping the pairs
+     * it added if they turn out equal and taking them back out if not.
+     */
+    private boolean trial(Object expected, Object actual) {
+        final List<IdentityPair> trialAdded = new ArrayList<IdentityPair>();
+        if (new DeepComparison(1, visited, trialAdded).compare(expected, actual)) {
+            if (added != null) {
+                added.addAll(trialAdded);
+            }
+            return true;
+        }
+        for (IdentityPair pair : trialAdded) {
+            visited.remove(pair);
+        }
+        return false;
+    }
+
+    /**
+     * A hash that deeply equal values share. It looks no further than the value's own
+     * fields, and only at those compared with <code>equals</code>, so it is cheap.
+     */
+    private static int shallowHash(Object value) {
+        final int hash = hashWithoutFields(value);
+        if (hash != -1 || value == null) {
+            return hash;
+        }
+        final ClassFields fields = FieldUtil.fieldsOf(value.getClass());
+        int result = value.getClass().hashCode();
+        for (FieldAccessor field : fields.fields) {
+            final int fieldHash = hashWithoutFields(field.read(value));
+            result = 31 * result + (fieldHash == -1 ? 0 : fieldHash);
+        }
+        return result;
+    }
+
+    /**
+     * @return a hash that deeply equal values share, or -1 if the value is compared field by field
+     */
+    private static int hashWithoutFields(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        final Class<?> type = value.getClass();
+        if (type.isArray()) {
+            return Array.getLength(value);
+        }
+        final ClassFields fields = FieldUtil.fieldsOf(type);
+        if (fields.isMap) {
+            return ((Map<?, ?>) value).size();
+        }
+        if (fields.isCollection) {
+            return ((Collection<?>) value).size();
+        }
+        if (fields.isPlainIterable) {
+            return 0;
+        }
+        if (fields.comparedWithEquals) {
+            final int hash = value.hashCode();
+            return hash == -1 ? 0 : hash;
+        }
+        return -1;
+    }
+
+    private void maps(Map<?, ?> expected, Map<?, ?> actual, Path path) {
+        if (!visit(expected, actual)) {
+            return;
+        }
+        final List<Object> steps = new ArrayList<Object>();
+        for (Map.Entry<?, ?> entry : expected.entrySet()) {
+            final Path entryPath = new Path(path, entry.getKey());
+            if (actual.containsKey(entry.getKey())) {
+                steps.add(new Pair(entry.getValue(), actual.get(entry.getKey()), entryPath));
+            } else {
+                steps.add(new Difference(entryPath, "was missing", null, false));
+            }
+        }
+        for (Object key : actual.keySet()) {
+            if (!expected.containsKey(key)) {
+                steps.add(new Difference(new Path(path, key), "was not expected", null, false));
+            }
+        }
+        schedule(steps);
+    }
+
+    private boolean visit(Object expected, Object actual) {
+        final IdentityPair pair = new IdentityPair(expected, actual);
+        if (!visited.add(pair)) {
+            return false;
+        }
+        if (added != null) {
+            added.add(pair);
+        }
+        return true;
+    }
+
+    private void was(Path path, Object actual) {
+        record(new Difference(path, "was ", actual, true));
+    }
+
+    private void differ(Path path, String text) {
+        record(new Difference(path, text, null, false));
+    }
+
+    private void record(Difference difference) {
+        differences.add(difference);
+        stopped = differences.size() == maxDifferences;
+    }
+
+    /**
+     * The way from the root to a value, such as {@code owner.addresses[2].city}, held as a
+     * link to its parent so that deep paths cost no more than one link each.
+     */
+    private static final class Path {
+        private final Path parent;
+        private final Object step;
+        private final boolean isField;
+
+        Path(Path parent, String fieldName, boolean isField) {
+            this(parent, (Object) fieldName, isField);
+        }
+
+        /** An index or key, turned into text only if the path is shown. */
+        Path(Path parent, Object key) {
+            this(parent, key, false);
+        }
+
+        private Path(Path parent, Object step, boolean isField) {
+            this.parent = parent;
+            this.step = step;
+            this.isField = isField;
+        }
+
+        static String toString(Path path) {
+            final List<Path> steps = new ArrayList<Path>();
+            for (Path p = path; p != null; p = p.parent) {
+                steps.add(p);
+            }
+            final StringBuilder text = new StringBuilder();
+            for (int i = steps.size() - 1; i >= 0; i--) {
+                final Path p = steps.get(i);
+                if (!p.isField) {
+                    text.append('[').append(p.step).append(']');
+                } else {
+                    if (text.length() > 0) {
+                        text.append('.');
+                    }
+                    text.append(p.step);
+                }
+            }
+            return text.toString();
+        }
+    }
+
+    private static final class Pair {
+        final Object expected;
+        final Object actual;
+        final Path path;
+
+        Pair(Object expected, Object actual, Path path) {
+            this.expected = expected;
+            this.actual = actual;
+            this.path = path;
+        }
+    }
+
+    /**
+     * A difference found at a path such as {@code owner.addresses[2].city}.
+     */
+    static final class Difference {
+        private final Path path;
+        private final String text;
+        private final Object actual;
+        private final boolean showsActual;
+
+        private Difference(Path path, String text, Object actual, boolean showsActual) {
+            this.path = path;
+            this.text = text;
+            this.actual = actual;
+            this.showsActual = showsActual;
+        }
+
+        void describeTo(Description description) {
+            if (path != null) {
+                description.appendText(Path.toString(path)).appendText(" ");
+            }
+            description.appendText(text);
+            if (showsActual) {
+                description.appendValue(actual);
+            }
+        }
+    }
+
+    private static final class IdentityPair {
+        private final Object expected;
+        private final Object actual;
+
+        IdentityPair(Object expected, Object actual) {
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityPair
+                    && ((IdentityPair) o).expected == expected
+                    && ((IdentityPair) o).actual == actual;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(expected) + System.identityHashCode(actual);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.hamcrest.beans;
+
+import java.lang.reflect.Field;
+
+/**
+ * An instance field of a class, made accessible once, so that repeated reads skip
+ * the lookup and the access check. Like {@link PropertyAccessor}, it reads through
+ * plain reflection.
+ */
+final class FieldAccessor {
+    final Field field;
+    private final boolean readable;
+
+    FieldAccessor(Field field) {
+        this.field = field;
+        this.readable = makeAccessible(field);
+    }
+
+    String name() {
+        return field.getName();
+    }
+
+    /**
+     * @return false if the field could not be made accessible, for example because
+     *         a security manager or the module system does not allow it.
+     */
+    boolean isReadable() {
+        return readable;
+    }
+
+    Object read(Object target) {
+        try {
+            return field.get(target);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Reading '" + field + "' should not have thrown " + e, e);
+        }
+    }
+
+    private static boolean makeAccessible(Field field) {
+        try {
+            field.setAccessible(true);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
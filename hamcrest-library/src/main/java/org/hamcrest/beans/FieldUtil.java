@@ -0,0 +1,149 @@
+package org.hamcrest.beans;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utility class for reading the instance fields of objects, without JavaBeans introspection.
+ * The fields of each class are looked up once and held alongside the class itself.
+ */
+final class FieldUtil {
+    private static final ClassValue<ClassFields> FIELDS = new ClassValue<ClassFields>() {
+        @Override
+        protected ClassFields computeValue(Class<?> type) {
+            return new ClassFields(type);
+        }
+    };
+
+    private static final ClassValue<Map<String, Method>> ACCESSORS = new ClassValue<Map<String, Method>>() {
+        @Override
+        protected Map<String, Method> computeValue(Class<?> type) {
+            return accessorsOf(type);
+        }
+    };
+
+    private FieldUtil() { }
+
+    /**
+     * @return the field with the provided name on the object's class or its superclasses,
+     *         or null if there is no such instance field.
+     */
+    static FieldAccessor fieldAccessor(String fieldName, Object fromObj) {
+        return fieldsOf(fromObj.getClass()).byName.get(fieldName);
+    }
+
+    /**
+     * @return the public instance method with the provided name, no parameters and a result,
+     *         such as <code>x()</code>, on the object's class, or null if there is none
+     *         or it could not be made accessible.
+     */
+    static Method accessorMethod(String name, Object fromObj) {
+        return ACCESSORS.get(fromObj.getClass()).get(name);
+    }
+
+    static ClassFields fieldsOf(Class<?> type) {
+        return FIELDS.get(type);
+    }
+
+    private static Map<String, Method> accessorsOf(Class<?> type) {
+        final Map<String, Method> accessors = new HashMap<String, Method>();
+        for (Method method : type.getMethods()) {
+            if (method.getParameterTypes().length == 0
+                    && method.getReturnType() != void.class
+                    && !Modifier.isStatic(method.getModifiers())
+                    && !method.isBridge()
+                    && method.getDeclaringClass() != Object.class
+                    && !accessors.containsKey(method.getName())
+                    && makeAccessible(method)) {
+                accessors.put(method.getName(), method);
+            }
+        }
+        return Collections.unmodifiableMap(accessors);
+    }
+
+    /**
+     * Public methods of classes that are not public can only be called once made accessible.
+     */
+    private static boolean makeAccessible(Method method) {
+        try {
+            method.setAccessible(true);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    static final class ClassFields {
+        private static final Comparator<FieldAccessor> BY_NAME = new Comparator<FieldAccessor>() {
+            @Override
+            public int compare(FieldAccessor a, FieldAccessor b) {
+                return a.name().compareTo(b.name());
+            }
+        };
+
+        /** Instance fields, sorted by name, including those inherited from superclasses. */
+        final List<FieldAccessor> fields;
+        final Map<String, FieldAccessor> byName;
+        /** False if some field could not be made accessible. */
+        final boolean allReadable;
+        /** True if values of this class are compared with equals() rather than field by field. */
+        final boolean comparedWithEquals;
+        /**
+         * Which container interfaces this class implements, looked up once since checking
+         * each value against them in turn is slow for classes with many interfaces.
+         */
+        final boolean isMap;
+        final boolean isSet;
+        final boolean isCollection;
+        /** True for iterables that do not override equals(), which are compared element by element. */
+        final boolean isPlainIterable;
+
+        private ClassFields(Class<?> type) {
+            final List<FieldAccessor> accessors = new ArrayList<FieldAccessor>();
+            final Map<String, FieldAccessor> named = new HashMap<String, FieldAccessor>();
+            boolean allReadable = true;
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+                    final FieldAccessor accessor = new FieldAccessor(field);
+                    accessors.add(accessor);
+                    allReadable &= accessor.isReadable();
+                    if (!named.containsKey(accessor.name())) {
+                        named.put(accessor.name(), accessor);
+                    }
+                }
+            }
+            Collections.sort(accessors, BY_NAME);
+            this.fields = Collections.unmodifiableList(accessors);
+            this.byName = Collections.unmodifiableMap(named);
+            this.allReadable = allReadable;
+            this.comparedWithEquals = !allReadable || declaresEquals(type);
+            this.isMap = Map.class.isAssignableFrom(type);
+            this.isSet = Set.class.isAssignableFrom(type);
+            this.isCollection = Collection.class.isAssignableFrom(type);
+            this.isPlainIterable = Iterable.class.isAssignableFrom(type) && !declaresEquals(type);
+        }
+
+        static boolean declaresEquals(Class<?> type) {
+            if (type.isPrimitive() || type.isEnum() || type.isInterface()) {
+                return true;
+            }
+            try {
+                return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    }
+}
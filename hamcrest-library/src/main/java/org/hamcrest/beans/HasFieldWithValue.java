@@ -0,0 +1,108 @@
+package org.hamcrest.beans;
+
+import org.hamcrest.Condition;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.hamcrest.Condition.matched;
+import static org.hamcrest.Condition.notMatched;
+import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
+
+/**
+ * <p>Matcher that asserts that an instance field of the examined object meets the
+ * provided matcher. This is the counterpart of {@link HasPropertyWithValue} for value
+ * objects that expose their state through fields, or through accessors without a
+ * "get" prefix, rather than through JavaBean getters.</p>
+ *
+ * <p>Fields are found on the object's class and its superclasses, whatever their
+ * visibility, and are read without JavaBeans introspection. If there is no such field,
+ * or it cannot be read, a public method with the same name and no parameters is called
+ * instead, such as <code>x()</code>. The fields and methods of each class are looked up
+ * once and then reused.</p>
+ * <h2>Example Usage</h2>
+ * <pre>
+ * final class Point {
+ *   final int x;
+ *   final int y;
+ *   ...
+ * }
+ *
+ * assertThat(new Point(1, 2), hasField("x", equalTo(1)));</pre>
+ */
+public class HasFieldWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
+    private final String fieldName;
+    private final Matcher<Object> valueMatcher;
+
+    public HasFieldWithValue(String fieldName, Matcher<?> valueMatcher) {
+        this.fieldName = fieldName;
+        this.valueMatcher = nastyGenericsWorkaround(valueMatcher);
+    }
+
+    @Override
+    public boolean matchesSafely(T object, Description mismatch) {
+        return valueOn(object, mismatch).matching(valueMatcher, "field '" + fieldName + "' ");
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("hasField(").appendValue(fieldName).appendText(", ")
+                   .appendDescriptionOf(valueMatcher).appendText(")");
+    }
+
+    private Condition<Object> valueOn(T object, Description mismatch) {
+        final FieldAccessor field = FieldUtil.fieldAccessor(fieldName, object);
+        if (field != null && field.isReadable()) {
+            return matched(field.read(object), mismatch);
+        }
+        final Method accessor = FieldUtil.accessorMethod(fieldName, object);
+        if (accessor != null) {
+            return accessorValue(accessor, object, mismatch);
+        }
+        if (field == null) {
+            mismatch.appendText("No field \"" + fieldName + "\"");
+        } else {
+            mismatch.appendText("field \"" + fieldName + "\" is not accessible");
+        }
+        return notMatched();
+    }
+
+    private static Condition<Object> accessorValue(Method accessor, Object object, Description mismatch) {
+        try {
+            return matched(accessor.invoke(object, NO_ARGUMENTS), mismatch);
+        } catch (InvocationTargetException e) {
+            mismatch
+              .appendText("Calling '")
+              .appendText(accessor.toString())
+              .appendText("': ")
+              .appendValue(e.getTargetException().getMessage());
+            return notMatched();
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Calling: '" + accessor + "' should not have thrown " + e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Matcher<Object> nastyGenericsWorkaround(Matcher<?> valueMatcher) {
+        return (Matcher<Object>) valueMatcher;
+    }
+
+    /**
+     * Creates a matcher that matches when the examined object has an instance field,
+     * or else a public method with no parameters, with the specified name whose value
+     * satisfies the specified matcher.
+     * For example:
+     * <pre>assertThat(myPoint, hasField("x", equalTo(1)))</pre>
+     * 
+     * @param fieldName
+     *     the name of the field that examined objects should possess
+     * @param valueMatcher
+     *     a matcher for the value of the specified field of the examined object
+     */
+    public static <T> Matcher<T> hasField(String fieldName, Matcher<?> valueMatcher) {
+        return new HasFieldWithValue<>(fieldName, valueMatcher);
+    }
+}
@@ -5,13 +5,10 @@ import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
-import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 import static org.hamcrest.Condition.matched;
 import static org.hamcrest.Condition.notMatched;
-import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
 
 /**
  * <p>Matcher that asserts that a JavaBean property on an argument passed to the
@@ -66,7 +63,7 @@ import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
  * @author Steve Freeman
  */
 public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
-    private static final Condition.Step<PropertyDescriptor,Method> WITH_READ_METHOD = withReadMethod();
+    private static final Condition.Step<PropertyAccessor, PropertyAccessor> WITH_READ_METHOD = withReadMethod();
     private final String propertyName;
     private final Matcher<Object> valueMatcher;
 
@@ -89,8 +86,8 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
                    .appendDescriptionOf(valueMatcher).appendText(")");
     }
 
-    private Condition<PropertyDescriptor> propertyOn(T bean, Description mismatch) {
-        PropertyDescriptor property = PropertyUtil.getPropertyDescriptor(propertyName, bean);
+    private Condition<PropertyAccessor> propertyOn(T bean, Description mismatch) {
+        PropertyAccessor property = PropertyUtil.propertyAccessor(propertyName, bean);
         if (property == null) {
             mismatch.appendText("No property \"" + propertyName + "\"");
             return notMatched();
@@ -99,22 +96,22 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
         return matched(property, mismatch);
     }
 
-    private Condition.Step<Method, Object> withPropertyValue(final T bean) {
-        return new Condition.Step<Method, Object>() {
+    private Condition.Step<PropertyAccessor, Object> withPropertyValue(final T bean) {
+        return new Condition.Step<PropertyAccessor, Object>() {
             @Override
-            public Condition<Object> apply(Method readMethod, Description mismatch) {
+            public Condition<Object> apply(PropertyAccessor property, Description mismatch) {
                 try {
-                    return matched(readMethod.invoke(bean, NO_ARGUMENTS), mismatch);
+                    return matched(property.read(bean), mismatch);
                 } catch (InvocationTargetException e) {
                     mismatch
                       .appendText("Calling '")
-                      .appendText(readMethod.toString())
+                      .appendText(property.readMethod.toString())
                       .appendText("': ")
                       .appendValue(e.getTargetException().getMessage());
                     return notMatched();
                 } catch (Exception e) {
                     throw new IllegalStateException(
-                      "Calling: '" + readMethod + "' should not have thrown " + e);
+                      "Calling: '" + property.readMethod + "' should not have thrown " + e);
                 }
             }
         };
@@ -125,16 +122,15 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
         return (Matcher<Object>) valueMatcher;
     }
 
-    private static Condition.Step<PropertyDescriptor,Method> withReadMethod() {
-        return new Condition.Step<PropertyDescriptor, java.lang.reflect.Method>() {
+    private static Condition.Step<PropertyAccessor, PropertyAccessor> withReadMethod() {
+        return new Condition.Step<PropertyAccessor, PropertyAccessor>() {
             @Override
-            public Condition<Method> apply(PropertyDescriptor property, Description mismatch) {
-                final Method readMethod = property.getReadMethod();
-                if (null == readMethod) {
-                    mismatch.appendText("property \"" + property.getName() + "\" is not readable");
+            public Condition<PropertyAccessor> apply(PropertyAccessor property, Description mismatch) {
+                if (!property.isReadable()) {
+                    mismatch.appendText("property \"" + property.name() + "\" is not readable");
                     return notMatched();
                 }
-                return matched(readMethod, mismatch);
+                return matched(property, mismatch);
             }
         };
     }
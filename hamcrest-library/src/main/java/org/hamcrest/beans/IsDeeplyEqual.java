@@ -0,0 +1,89 @@
+package org.hamcrest.beans;
+
+import org.hamcrest.Description;
+import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.Matcher;
+
+import java.util.List;
+
+/**
+ * Matches an object graph that is structurally equal to an expected one.
+ * <p>
+ * Values whose class overrides {@link Object#equals(Object)} are compared with it, as
+ * {@link org.hamcrest.core.IsEqual} would. Arrays and lists are compared element by
+ * element, maps entry by entry, and other objects field by field. Each
+ * (expected, actual) pair of objects is compared once per match, so a subgraph
+ * shared by many parents is not walked again and cycles terminate.
+ * <p>
+ * The mismatch lists each difference with its path, for example
+ * {@code orders[3].lines[0].quantity was <2>}, up to a maximum number of differences.
+ */
+public class IsDeeplyEqual<T> extends DiagnosingMatcher<T> {
+    private static final int DEFAULT_MAX_DIFFERENCES = 10;
+
+    private final Object expected;
+    private final int maxDifferences;
+
+    public IsDeeplyEqual(T expected, int maxDifferences) {
+        if (maxDifferences < 1) {
+            throw new IllegalArgumentException("maxDifferences must be at least 1, was " + maxDifferences);
+        }
+        this.expected = expected;
+        this.maxDifferences = maxDifferences;
+    }
+
+    @Override
+    protected boolean matches(Object actual, Description mismatch) {
+        final DeepComparison comparison = new DeepComparison(maxDifferences);
+        if (comparison.compare(expected, actual)) {
+            return true;
+        }
+        final List<DeepComparison.Difference> differences = comparison.differences();
+        if (differences.size() == 1 && !comparison.stoppedEarly()) {
+            differences.get(0).describeTo(mismatch);
+            return false;
+        }
+        mismatch.appendText(comparison.stoppedEarly() ? "stopped after " : "had ")
+                .appendText(differences.size() + " differences:");
+        for (DeepComparison.Difference difference : differences) {
+            mismatch.appendText("\n          ");
+            difference.describeTo(mismatch);
+        }
+        return false;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("deeply equal to ").appendValue(expected);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined object is structurally equal to
+     * the specified object, comparing arrays, lists, maps and the fields of other objects
+     * deeply. The mismatch description reports up to 10 differences.
+     * For example:
+     * <pre>assertThat(myOrder, deeplyEqualTo(expectedOrder))</pre>
+     * 
+     * @param expected
+     *     the object graph against which examined objects are compared
+     */
+    public static <T> Matcher<T> deeplyEqualTo(T expected) {
+        return new IsDeeplyEqual<T>(expected, DEFAULT_MAX_DIFFERENCES);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined object is structurally equal to
+     * the specified object, comparing arrays, lists, maps and the fields of other objects
+     * deeply. The comparison stops once it has found the given number of differences.
+     * For example:
+     * <pre>assertThat(myOrder, deeplyEqualTo(expectedOrder, 3))</pre>
+     * 
+     * @param expected
+     *     the object graph against which examined objects are compared
+     * @param maxDifferences
+     *     the most differences to find and report
+     */
+    public static <T> Matcher<T> deeplyEqualTo(T expected, int maxDifferences) {
+        return new IsDeeplyEqual<T>(expected, maxDifferences);
+    }
+}
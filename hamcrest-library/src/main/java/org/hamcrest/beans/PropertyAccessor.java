@@ -0,0 +1,38 @@
+package org.hamcrest.beans;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
+
+/**
+ * A JavaBean property of a class, with its read method resolved once, so that
+ * repeated reads skip the introspection and the lookup by name. Reads go through
+ * {@link Method#invoke(Object, Object...)}: a method handle held per property is no
+ * faster once warmed up (see PropertyAccessBenchmark in the tests).
+ */
+final class PropertyAccessor {
+    final PropertyDescriptor descriptor;
+    final Method readMethod;
+
+    PropertyAccessor(PropertyDescriptor descriptor) {
+        this.descriptor = descriptor;
+        this.readMethod = descriptor.getReadMethod();
+    }
+
+    String name() {
+        return descriptor.getName();
+    }
+
+    boolean isReadable() {
+        return readMethod != null;
+    }
+
+    /**
+     * Reads the property from the bean, with the same exceptions as {@link Method#invoke(Object, Object...)}.
+     */
+    Object read(Object bean) throws InvocationTargetException, IllegalAccessException {
+        return readMethod.invoke(bean, NO_ARGUMENTS);
+    }
+}
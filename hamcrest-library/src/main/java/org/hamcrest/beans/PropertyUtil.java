@@ -3,6 +3,11 @@ package org.hamcrest.beans;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Utility class for accessing properties on JavaBean objects.
@@ -14,25 +19,49 @@ import java.beans.PropertyDescriptor;
  * @since 1.1.0
  */
 public class PropertyUtil {
+    /**
+     * Bean metadata is introspected once per class and held alongside the class itself,
+     * so it is released when the class is unloaded.
+     */
+    private static final ClassValue<BeanProperties> ALL_PROPERTIES = new ClassValue<BeanProperties>() {
+        @Override
+        protected BeanProperties computeValue(Class<?> type) {
+            return new BeanProperties(introspect(type, null));
+        }
+    };
+
+    private static final ClassValue<BeanProperties> PROPERTIES_BELOW_OBJECT = new ClassValue<BeanProperties>() {
+        @Override
+        protected BeanProperties computeValue(Class<?> type) {
+            return new BeanProperties(introspect(type, Object.class));
+        }
+    };
+
     /**
      * Returns the description of the property with the provided
-     * name on the provided object's interface.
+     * name on the provided object's interface. The descriptor is cached and
+     * shared, so it must not be modified.
      *
      * @return the descriptor of the property, or null if the property does not exist.
      * @throws IllegalArgumentException if there's a introspection failure
      */
     public static PropertyDescriptor getPropertyDescriptor(String propertyName, Object fromObj) throws IllegalArgumentException {
-        for (PropertyDescriptor property : propertyDescriptorsFor(fromObj, null)) {
-            if (property.getName().equals(propertyName)) {
-                return property;
-            }
-        }
+        final PropertyAccessor accessor = propertyAccessor(propertyName, fromObj);
+        return accessor == null ? null : accessor.descriptor;
+    }
 
-        return null;
+    /**
+     * @return the property, with its read method resolved, or null if the property does not exist.
+     * @throws IllegalArgumentException if there's a introspection failure
+     */
+    static PropertyAccessor propertyAccessor(String propertyName, Object fromObj) throws IllegalArgumentException {
+        return ALL_PROPERTIES.get(fromObj.getClass()).byName.get(propertyName);
     }
 
     /**
-     * Returns all the property descriptors for the class associated with the given object
+     * Returns all the property descriptors for the class associated with the given object.
+     * The array is a copy, but the descriptors in it are cached and shared, as they are
+     * by {@link Introspector}, so they must not be modified.
      * 
      * @param fromObj Use the class of this object
      * @param stopClass Don't include any properties from this ancestor class upwards.
@@ -40,12 +69,51 @@ public class PropertyUtil {
      * @throws IllegalArgumentException if there's a introspection failure
      */
     public static PropertyDescriptor[] propertyDescriptorsFor(Object fromObj, Class<Object> stopClass) throws IllegalArgumentException {
+      if (stopClass == null) {
+        return ALL_PROPERTIES.get(fromObj.getClass()).descriptors.clone();
+      }
+      if (stopClass == Object.class) {
+        return PROPERTIES_BELOW_OBJECT.get(fromObj.getClass()).descriptors.clone();
+      }
+      return introspect(fromObj.getClass(), stopClass);
+    }
+
+    /**
+     * @return the display names of the properties declared below {@link Object} on the object's class.
+     *         The set is shared and must not be modified.
+     * @throws IllegalArgumentException if there's a introspection failure
+     */
+    static Set<String> propertyNamesBelowObject(Object fromObj) throws IllegalArgumentException {
+      return PROPERTIES_BELOW_OBJECT.get(fromObj.getClass()).displayNames;
+    }
+
+    private static PropertyDescriptor[] introspect(Class<?> type, Class<?> stopClass) throws IllegalArgumentException {
       try {
-        return Introspector.getBeanInfo(fromObj.getClass(), stopClass).getPropertyDescriptors();
+        return Introspector.getBeanInfo(type, stopClass).getPropertyDescriptors();
       } catch (IntrospectionException e) {
-        throw new IllegalArgumentException("Could not get property descriptors for " + fromObj.getClass(), e);
+        throw new IllegalArgumentException("Could not get property descriptors for " + type, e);
       }
     }
 
+    private static final class BeanProperties {
+        final PropertyDescriptor[] descriptors;
+        final Map<String, PropertyAccessor> byName;
+        final Set<String> displayNames;
+
+        BeanProperties(PropertyDescriptor[] descriptors) {
+            this.descriptors = descriptors;
+            final Map<String, PropertyAccessor> accessors = new HashMap<String, PropertyAccessor>(descriptors.length * 2);
+            final Set<String> names = new HashSet<String>(descriptors.length * 2);
+            for (PropertyDescriptor descriptor : descriptors) {
+                if (!accessors.containsKey(descriptor.getName())) {
+                    accessors.put(descriptor.getName(), new PropertyAccessor(descriptor));
+                }
+                names.add(descriptor.getDisplayName());
+            }
+            this.byName = Collections.unmodifiableMap(accessors);
+            this.displayNames = Collections.unmodifiableSet(names);
+        }
+    }
+
     public static final Object[] NO_ARGUMENTS = new Object[0];
 }
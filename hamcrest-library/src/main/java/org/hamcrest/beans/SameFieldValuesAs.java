@@ -0,0 +1,111 @@
+package org.hamcrest.beans;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.beans.FieldUtil.ClassFields;
+
+import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Matches objects whose instance fields hold the same values as those of an expected
+ * object, compared deeply.
+ * <p>
+ * Field values whose class overrides {@link Object#equals(Object)} are compared with it,
+ * except that arrays, lists and maps are compared element by element. Other objects are
+ * compared field by field in the same way. Each pair of objects is compared once, so
+ * cyclic and shared structures are handled. The mismatch names the path to the first
+ * difference, for example {@code owner.address.city was "Leeds"}.
+ * <p>
+ * If some fields of the expected object's class cannot be read, for example because the
+ * module system does not allow it, the objects are compared with equals() instead, and
+ * those fields are described as {@code ?}.
+ */
+public class SameFieldValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
+    private final T expectedObject;
+    private final ClassFields expectedFields;
+
+    public SameFieldValuesAs(T expectedObject) {
+        this.expectedObject = expectedObject;
+        this.expectedFields = FieldUtil.fieldsOf(expectedObject.getClass());
+    }
+
+    @Override
+    public boolean matchesSafely(T item, Description mismatch) {
+        return isCompatibleType(item, mismatch)
+                && hasNoExtraFields(item, mismatch)
+                && hasSameFieldValues(item, mismatch);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("same field values as " + expectedObject.getClass().getSimpleName()).appendText(" [");
+        boolean first = true;
+        for (FieldAccessor field : expectedFields.fields) {
+            if (!first) {
+                description.appendText(", ");
+            }
+            description.appendText(field.name() + ": ");
+            if (field.isReadable()) {
+                description.appendValue(field.read(expectedObject));
+            } else {
+                description.appendText("?");
+            }
+            first = false;
+        }
+        description.appendText("]");
+    }
+
+    private boolean hasSameFieldValues(T item, Description mismatch) {
+        final DeepComparison comparison = new DeepComparison(1);
+        if (comparison.compareFields(expectedFields, expectedObject, item)) {
+            return true;
+        }
+        comparison.differences().get(0).describeTo(mismatch);
+        return false;
+    }
+
+    private boolean isCompatibleType(T item, Description mismatch) {
+        if (!expectedObject.getClass().isAssignableFrom(item.getClass())) {
+            mismatch.appendText("is incompatible type: " + item.getClass().getSimpleName());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean hasNoExtraFields(T item, Description mismatch) {
+        final ClassFields actualFields = FieldUtil.fieldsOf(item.getClass());
+        if (actualFields.fields.size() != expectedFields.fields.size()) {
+            final Set<Field> expected = new HashSet<Field>();
+            for (FieldAccessor field : expectedFields.fields) {
+                expected.add(field.field);
+            }
+            final Set<String> extraFieldNames = new HashSet<String>();
+            for (FieldAccessor field : actualFields.fields) {
+                if (!expected.contains(field.field)) {
+                    extraFieldNames.add(field.name());
+                }
+            }
+            mismatch.appendText("has extra fields called " + extraFieldNames);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Creates a matcher that matches when the examined object has the same instance
+     * field values as the specified object, compared deeply. Unlike
+     * {@link SamePropertyValuesAs#samePropertyValuesAs(Object)}, this reads fields
+     * directly, so it works for value objects without JavaBean getters.
+     * For example:
+     * <pre>assertThat(myValue, sameFieldValuesAs(myExpectedValue))</pre>
+     * 
+     * @param expectedObject
+     *     the object against which examined objects are compared
+     */
+    public static <T> Matcher<T> sameFieldValuesAs(T expectedObject) {
+        return new SameFieldValuesAs<T>(expectedObject);
+    }
+}
@@ -6,34 +6,44 @@ import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
 import static org.hamcrest.beans.PropertyUtil.propertyDescriptorsFor;
+import static org.hamcrest.beans.PropertyUtil.propertyNamesBelowObject;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 public class SamePropertyValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
     private final T expectedBean;
     private final Set<String> propertyNames;
     private final List<PropertyMatcher> propertyMatchers;
+    private final boolean reportAllDifferences;
+
+    /**
+     * The last class that passed the type and property name checks. Examined beans are
+     * nearly always of one class, so this saves repeating the checks for every item.
+     */
+    private volatile Class<?> lastMatchingShape;
 
 
     public SamePropertyValuesAs(T expectedBean) {
+        this(expectedBean, false);
+    }
+
+    private SamePropertyValuesAs(T expectedBean, boolean reportAllDifferences) {
         PropertyDescriptor[] descriptors = propertyDescriptorsFor(expectedBean, Object.class);
         this.expectedBean = expectedBean;
-        this.propertyNames = propertyNamesFrom(descriptors);
+        this.propertyNames = propertyNamesBelowObject(expectedBean);
         this.propertyMatchers = propertyMatchersFor(expectedBean, descriptors);
+        this.reportAllDifferences = reportAllDifferences;
     }
 
     @Override
     public boolean matchesSafely(T bean, Description mismatch) {
-        return isCompatibleType(bean, mismatch)
-                && hasNoExtraProperties(bean, mismatch)
-                && hasMatchingValues(bean, mismatch);
+        return hasSameShape(bean, mismatch)
+                && (reportAllDifferences ? hasAllMatchingValues(bean, mismatch) : hasMatchingValues(bean, mismatch));
     }
 
     @Override
@@ -43,6 +53,18 @@ public class SamePropertyValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
     }
 
 
+    private boolean hasSameShape(T item, Description mismatchDescription) {
+        final Class<?> itemClass = item.getClass();
+        if (itemClass == lastMatchingShape) {
+            return true;
+        }
+        if (isCompatibleType(item, mismatchDescription) && hasNoExtraProperties(item, mismatchDescription)) {
+            lastMatchingShape = itemClass;
+            return true;
+        }
+        return false;
+    }
+
     private boolean isCompatibleType(T item, Description mismatchDescription) {
         if (!expectedBean.getClass().isAssignableFrom(item.getClass())) {
             mismatchDescription.appendText("is incompatible type: " + item.getClass().getSimpleName());
@@ -52,10 +74,11 @@ public class SamePropertyValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
     }
 
     private boolean hasNoExtraProperties(T item, Description mismatchDescription) {
-        Set<String> actualPropertyNames = propertyNamesFrom(propertyDescriptorsFor(item, Object.class));
-        actualPropertyNames.removeAll(propertyNames);
-        if (!actualPropertyNames.isEmpty()) {
-            mismatchDescription.appendText("has extra properties called " + actualPropertyNames);
+        final Set<String> actualPropertyNames = propertyNamesBelowObject(item);
+        if (!propertyNames.containsAll(actualPropertyNames)) {
+            final Set<String> extraPropertyNames = new HashSet<String>(actualPropertyNames);
+            extraPropertyNames.removeAll(propertyNames);
+            mismatchDescription.appendText("has extra properties called " + extraPropertyNames);
             return false;
         }
         return true;
@@ -63,63 +86,81 @@ public class SamePropertyValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
 
     private boolean hasMatchingValues(T item, Description mismatchDescription) {
         for (PropertyMatcher propertyMatcher : propertyMatchers) {
-            if (!propertyMatcher.matches(item)) {
-                propertyMatcher.describeMismatch(item, mismatchDescription);
+            if (!propertyMatcher.matches(item, mismatchDescription)) {
                 return false;
             }
         }
         return true;
     }
 
-    private static <T> List<PropertyMatcher> propertyMatchersFor(T bean, PropertyDescriptor[] descriptors) {
-        List<PropertyMatcher> result = new ArrayList<PropertyMatcher>(descriptors.length);
-        for (PropertyDescriptor propertyDescriptor : descriptors) {
-            result.add(new PropertyMatcher(propertyDescriptor, bean));
+    private boolean hasAllMatchingValues(T item, Description mismatchDescription) {
+        boolean matches = true;
+        for (PropertyMatcher propertyMatcher : propertyMatchers) {
+            final Object actualValue = readProperty(propertyMatcher.property, item);
+            if (!propertyMatcher.matcher.matches(actualValue)) {
+                if (!matches) {
+                    mismatchDescription.appendText(", ");
+                }
+                propertyMatcher.describeValueMismatch(actualValue, mismatchDescription);
+                matches = false;
+            }
         }
-        return result;
+        return matches;
     }
 
-    private static Set<String> propertyNamesFrom(PropertyDescriptor[] descriptors) {
-        HashSet<String> result = new HashSet<String>();
+    private static <T> List<PropertyMatcher> propertyMatchersFor(T bean, PropertyDescriptor[] descriptors) {
+        List<PropertyMatcher> result = new ArrayList<PropertyMatcher>(descriptors.length);
         for (PropertyDescriptor propertyDescriptor : descriptors) {
-            result.add(propertyDescriptor.getDisplayName());
+            result.add(new PropertyMatcher(propertyDescriptor, bean));
         }
         return result;
     }
 
     public static class PropertyMatcher extends DiagnosingMatcher<Object> {
-        private final Method readMethod;
+        private final PropertyAccessor property;
         private final Matcher<Object> matcher;
         private final String propertyName;
 
         public PropertyMatcher(PropertyDescriptor descriptor, Object expectedObject) {
             this.propertyName = descriptor.getDisplayName();
-            this.readMethod = descriptor.getReadMethod();
-            this.matcher = equalTo(readProperty(readMethod, expectedObject));
+            this.property = accessorFor(descriptor, expectedObject);
+            this.matcher = equalTo(readProperty(property, expectedObject));
         }
 
         @Override
         public boolean matches(Object actual, Description mismatch) {
-            final Object actualValue = readProperty(readMethod, actual);
+            final Object actualValue = readProperty(property, actual);
             if (!matcher.matches(actualValue)) {
-                mismatch.appendText(propertyName + " ");
-                matcher.describeMismatch(actualValue, mismatch);
+                describeValueMismatch(actualValue, mismatch);
                 return false;
             }
             return true;
         }
 
+        private void describeValueMismatch(Object actualValue, Description mismatch) {
+            mismatch.appendText(propertyName + " ");
+            matcher.describeMismatch(actualValue, mismatch);
+        }
+
         @Override
         public void describeTo(Description description) {
             description.appendText(propertyName + ": ").appendDescriptionOf(matcher);
         }
     }
 
-    private static Object readProperty(Method method, Object target) {
+    private static PropertyAccessor accessorFor(PropertyDescriptor descriptor, Object bean) {
+        final PropertyAccessor cached = PropertyUtil.propertyAccessor(descriptor.getName(), bean);
+        if (cached != null && cached.readMethod != null && cached.readMethod.equals(descriptor.getReadMethod())) {
+            return cached;
+        }
+        return new PropertyAccessor(descriptor);
+    }
+
+    private static Object readProperty(PropertyAccessor property, Object target) {
         try {
-            return method.invoke(target, NO_ARGUMENTS);
+            return property.read(target);
         } catch (Exception e) {
-            throw new IllegalArgumentException("Could not invoke " + method + " on " + target, e);
+            throw new IllegalArgumentException("Could not invoke " + property.readMethod + " on " + target, e);
         }
     }
 
@@ -137,4 +178,19 @@ public class SamePropertyValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
         return new SamePropertyValuesAs<T>(expectedBean);
     }
 
+    /**
+     * Creates a matcher that matches when the examined object has values for all of
+     * its JavaBean properties that are equal to the corresponding values of the
+     * specified bean. Unlike {@link #samePropertyValuesAs(Object)}, every property is
+     * compared and the mismatch description lists all the differences, not just the first.
+     * For example:
+     * <pre>assertThat(myBean, samePropertyValuesReportingAllDifferencesAs(myExpectedBean))</pre>
+     * 
+     * @param expectedBean
+     *     the bean against which examined beans are compared
+     */
+    public static <T> Matcher<T> samePropertyValuesReportingAllDifferencesAs(T expectedBean) {
+        return new SamePropertyValuesAs<T>(expectedBean, true);
+    }
+
 }
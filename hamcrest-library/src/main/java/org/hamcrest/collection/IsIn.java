@@ -29,6 +29,16 @@ public class IsIn<T> extends BaseMatcher<T> {
         buffer.appendText("one of ");
         buffer.appendValueList("{", ", ", "}", collection);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other != null && other.getClass() == getClass() && collection.equals(((IsIn<?>) other).collection);
+    }
+
+    @Override
+    public int hashCode() {
+        return collection.hashCode();
+    }
     
     /**
      * Creates a matcher that matches when the examined object is found within the
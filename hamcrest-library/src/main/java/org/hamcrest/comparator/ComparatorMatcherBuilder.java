@@ -3,13 +3,25 @@ package org.hamcrest.comparator;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
+import org.hamcrest.internal.SortedSetShortcut;
 
 import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.Objects;
 
 import static java.lang.Integer.signum;
 
 public final class ComparatorMatcherBuilder<T> {
 
+    // shared, so that matchers built with natural ordering are equal when their values are
+    @SuppressWarnings("rawtypes")
+    private static final Comparator NATURAL_ORDERING = new Comparator<Comparable<Object>>() {
+        @Override
+        public int compare(Comparable<Object> o1, Comparable<Object> o2) {
+            return o1.compareTo(o2);
+        }
+    };
+
     private final Comparator<T> comparator;
     private final boolean includeComparatorInDescription;
 
@@ -18,13 +30,9 @@ public final class ComparatorMatcherBuilder<T> {
      * For example:
      * <pre>assertThat(1, ComparatorMatcherBuilder.&lt;Integer&gt;usingNaturalOrdering().lessThanOrEqualTo(1))</pre>
      */
+    @SuppressWarnings("unchecked")
     public static <T extends Comparable<T>> ComparatorMatcherBuilder<T> usingNaturalOrdering() {
-        return new ComparatorMatcherBuilder<T>(new Comparator<T>() {
-            @Override
-            public int compare(T o1, T o2) {
-                return o1.compareTo(o2);
-            }
-        }, false);
+        return new ComparatorMatcherBuilder<T>((Comparator<T>) NATURAL_ORDERING, false);
     }
 
     /**
@@ -105,6 +113,141 @@ public final class ComparatorMatcherBuilder<T> {
         private static String asText(int comparison) {
             return comparisonDescriptions[signum(comparison) + 1];
         }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof ComparatorMatcher)) {
+                return false;
+            }
+            final ComparatorMatcher<?> that = (ComparatorMatcher<?>) other;
+            return minCompare == that.minCompare && maxCompare == that.maxCompare
+                    && includeComparatorInDescription == that.includeComparatorInDescription
+                    && comparator.equals(that.comparator)
+                    && Objects.equals(expected, that.expected);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(comparator, expected, minCompare, maxCompare);
+        }
+    }
+
+    private static final class IntervalMatcher<T> extends TypeSafeMatcher<T> implements SortedSetShortcut {
+        private final Comparator<T> comparator;
+        private final T from;
+        private final boolean fromInclusive;
+        private final T to;
+        private final boolean toInclusive;
+        private final boolean includeComparatorInDescription;
+
+        private IntervalMatcher(Comparator<T> comparator, T from, boolean fromInclusive, T to, boolean toInclusive, boolean includeComparatorInDescription) {
+            if (comparator.compare(from, to) > 0) {
+                throw new IllegalArgumentException("Lower bound " + from + " is greater than upper bound " + to);
+            }
+            this.comparator = comparator;
+            this.from = from;
+            this.fromInclusive = fromInclusive;
+            this.to = to;
+            this.toInclusive = toInclusive;
+            this.includeComparatorInDescription = includeComparatorInDescription;
+        }
+
+        @Override
+        public boolean matchesSafely(T actual) {
+            try {
+                return isAboveLowerBound(comparator.compare(actual, from))
+                        && isBelowUpperBound(comparator.compare(actual, to));
+            } catch (ClassCastException e) {
+                return false; // type erasure means someone can shonk in a non-T :(
+            }
+        }
+
+        @Override
+        public Boolean matchesAnyItemOf(NavigableSet<?> set) {
+            if (!isOrderedAsThis(set)) {
+                return null;
+            }
+            try {
+                return !this.<T>typed(set).subSet(from, fromInclusive, to, toInclusive).isEmpty();
+            } catch (ClassCastException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public Boolean matchesEveryItemOf(NavigableSet<?> set) {
+            if (!isOrderedAsThis(set)) {
+                return null;
+            }
+            return set.isEmpty() || (matches(set.first()) && matches(set.last()));
+        }
+
+        @Override
+        public void describeMismatchSafely(T actual, Description mismatchDescription) {
+            final int fromCompare = comparator.compare(actual, from);
+            if (isAboveLowerBound(fromCompare)) {
+                mismatchDescription.appendValue(actual).appendText(" was ")
+                        .appendText(ComparatorMatcher.asText(comparator.compare(actual, to)))
+                        .appendText(" ").appendValue(to);
+            } else {
+                mismatchDescription.appendValue(actual).appendText(" was ")
+                        .appendText(ComparatorMatcher.asText(fromCompare))
+                        .appendText(" ").appendValue(from);
+            }
+            if (includeComparatorInDescription) {
+                mismatchDescription.appendText(" when compared by ").appendValue(comparator);
+            }
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(fromInclusive ? "a value equal to or greater than " : "a value greater than ")
+                       .appendValue(from)
+                       .appendText(toInclusive ? " and less than or equal to " : " and less than ")
+                       .appendValue(to);
+            if (includeComparatorInDescription) {
+                description.appendText(" when compared by ").appendValue(comparator);
+            }
+        }
+
+        private boolean isAboveLowerBound(int fromCompare) {
+            return fromCompare > 0 || (fromInclusive && fromCompare == 0);
+        }
+
+        private boolean isBelowUpperBound(int toCompare) {
+            return toCompare < 0 || (toInclusive && toCompare == 0);
+        }
+
+        /**
+         * Sets keep their own ordering, so the set can only be searched by range when it
+         * uses the same comparator as this matcher, or natural ordering when this matcher does.
+         */
+        private boolean isOrderedAsThis(NavigableSet<?> set) {
+            return set.comparator() == null ? comparator == NATURAL_ORDERING : comparator.equals(set.comparator());
+        }
+
+        @SuppressWarnings("unchecked")
+        private <U> NavigableSet<U> typed(NavigableSet<?> set) {
+            return (NavigableSet<U>) set;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof IntervalMatcher)) {
+                return false;
+            }
+            final IntervalMatcher<?> that = (IntervalMatcher<?>) other;
+            return fromInclusive == that.fromInclusive && toInclusive == that.toInclusive
+                    && includeComparatorInDescription == that.includeComparatorInDescription
+                    && comparator.equals(that.comparator)
+                    && Objects.equals(from, that.from)
+                    && Objects.equals(to, that.to);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(comparator, from, fromInclusive, to, toInclusive);
+        }
     }
 
     /**
@@ -175,4 +318,40 @@ public final class ComparatorMatcherBuilder<T> {
     public Matcher<T> lessThanOrEqualTo(T value) {
         return new ComparatorMatcher<T>(comparator, value, ComparatorMatcher.LESS_THAN, ComparatorMatcher.EQUAL, includeComparatorInDescription);
     }
+
+    /**
+     * Creates a matcher of {@code T} object that matches when the examined object is
+     * between the specified values, inclusive, as reported by the {@code Comparator} used to
+     * create this builder. The bounds are checked by a single matcher, and collection matchers
+     * such as {@code everyItem} and {@code hasItem} search a {@link NavigableSet} that uses
+     * the same ordering by range, instead of visiting every item.
+     * For example:
+     * <pre>assertThat(2, ComparatorMatcherBuilder.&lt;Integer&gt;usingNaturalOrdering().between(1, 3))</pre>
+     *
+     * @param from the lowest value that matches
+     * @param to the highest value that matches
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+     */
+    public Matcher<T> between(T from, T to) {
+        return new IntervalMatcher<T>(comparator, from, true, to, true, includeComparatorInDescription);
+    }
+
+    /**
+     * Creates a matcher of {@code T} object that matches when the examined object lies in the
+     * range between the specified values, as reported by the {@code Comparator} used to
+     * create this builder. Each bound may be open or closed. The bounds are checked by a single
+     * matcher, and collection matchers such as {@code everyItem} and {@code hasItem} search a
+     * {@link NavigableSet} that uses the same ordering by range, instead of visiting every item.
+     * For example:
+     * <pre>assertThat(2, ComparatorMatcherBuilder.&lt;Integer&gt;usingNaturalOrdering().inRange(1, true, 3, false))</pre>
+     *
+     * @param from the lower bound of the range
+     * @param fromInclusive true if the lower bound itself matches
+     * @param to the upper bound of the range
+     * @param toInclusive true if the upper bound itself matches
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+     */
+    public Matcher<T> inRange(T from, boolean fromInclusive, T to, boolean toInclusive) {
+        return new IntervalMatcher<T>(comparator, from, fromInclusive, to, toInclusive, includeComparatorInDescription);
+    }
 }
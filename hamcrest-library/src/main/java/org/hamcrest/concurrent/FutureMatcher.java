@@ -0,0 +1,134 @@
+package org.hamcrest.concurrent;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Matches the outcome of a {@link Future}: either the value it completes with or the
+ * exception it fails with.
+ * <p>
+ * By default the future must already be complete, and matching never blocks. After
+ * {@link #within(long, TimeUnit)}, matching waits for the future for at most the given
+ * time. Describing a mismatch never waits again: a future still incomplete by then, or one
+ * that has since completed with a matching outcome, is reported as not complete.
+ */
+public class FutureMatcher<T> extends TypeSafeDiagnosingMatcher<Future<? extends T>> {
+    private final Matcher<? super T> valueMatcher;
+    private final Matcher<? super Throwable> failureMatcher;
+    private final long timeoutNanos;
+
+    FutureMatcher(Matcher<? super T> valueMatcher, Matcher<? super Throwable> failureMatcher, long timeoutNanos) {
+        this.valueMatcher = valueMatcher;
+        this.failureMatcher = failureMatcher;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /**
+     * @return a copy of this matcher that waits up to the given time for the future to complete
+     */
+    public FutureMatcher<T> within(long timeout, TimeUnit unit) {
+        return new FutureMatcher<T>(valueMatcher, failureMatcher, unit.toNanos(timeout));
+    }
+
+    long timeoutNanos() {
+        return timeoutNanos;
+    }
+
+    @Override
+    protected boolean matchesWithoutDescribing(Future<? extends T> future) {
+        return matchesWaiting(future, timeoutNanos, Description.NONE);
+    }
+
+    /**
+     * Only reached when describing a mismatch, so it never waits.
+     */
+    @Override
+    protected boolean matchesSafely(Future<? extends T> future, Description mismatchDescription) {
+        describeMismatchNow(future, mismatchDescription);
+        return false;
+    }
+
+    /**
+     * Describes why the future did not match, without waiting. A future that matches by
+     * now can only have failed to match by completing too late, so it is reported as not
+     * complete.
+     */
+    void describeMismatchNow(Future<? extends T> future, Description mismatchDescription) {
+        if (matchesWaiting(future, 0, mismatchDescription)) {
+            notComplete(mismatchDescription);
+        }
+    }
+
+    /**
+     * Matches the future, waiting at most the given time, which may be less than this
+     * matcher's own timeout when several futures share one deadline.
+     */
+    boolean matchesWaiting(Future<? extends T> future, long waitNanos, Description mismatchDescription) {
+        if (!future.isDone() && waitNanos <= 0) {
+            return notComplete(mismatchDescription);
+        }
+        try {
+            final T value = future.get(Math.max(0, waitNanos), TimeUnit.NANOSECONDS);
+            if (valueMatcher == null) {
+                mismatchDescription.appendText("completed with ").appendValue(value);
+                return false;
+            }
+            if (!valueMatcher.matches(value)) {
+                mismatchDescription.appendText("completed with value ");
+                valueMatcher.describeMismatch(value, mismatchDescription);
+                return false;
+            }
+            return true;
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (failureMatcher == null) {
+                mismatchDescription.appendText("failed with ").appendValue(cause);
+                return false;
+            }
+            if (!failureMatcher.matches(cause)) {
+                mismatchDescription.appendText("failed with ");
+                failureMatcher.describeMismatch(cause, mismatchDescription);
+                return false;
+            }
+            return true;
+        } catch (CancellationException e) {
+            mismatchDescription.appendText("was cancelled");
+            return false;
+        } catch (TimeoutException e) {
+            return notComplete(mismatchDescription);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            mismatchDescription.appendText("was interrupted while waiting");
+            return false;
+        }
+    }
+
+    private boolean notComplete(Description mismatchDescription) {
+        mismatchDescription.appendText("was not complete");
+        appendTimeout(mismatchDescription);
+        return false;
+    }
+
+    private void appendTimeout(Description description) {
+        if (timeoutNanos > 0) {
+            description.appendText(" within " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms");
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        if (valueMatcher != null) {
+            description.appendText("a future that completes with ").appendDescriptionOf(valueMatcher);
+        } else {
+            description.appendText("a future that fails with ").appendDescriptionOf(failureMatcher);
+        }
+        appendTimeout(description);
+    }
+}
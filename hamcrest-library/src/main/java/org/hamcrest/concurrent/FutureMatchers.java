@@ -0,0 +1,133 @@
+package org.hamcrest.concurrent;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matchers of the outcome of {@link Future}s.
+ * For example:
+ * <pre>assertThat(future, aFutureThat(completesWith(equalTo(42)), within(5, SECONDS)))
+ *assertThat(futures, everyFutureThat(failsWith(instanceOf(IOException.class)), within(5, SECONDS)))</pre>
+ */
+public final class FutureMatchers {
+
+    private FutureMatchers() { }
+
+    /**
+     * Creates a matcher of {@link Future}s that matches when the examined future has
+     * completed with a value that satisfies the specified matcher. The future must
+     * already be complete, unless a wait is added with {@link #aFutureThat(FutureMatcher, Within)}.
+     *
+     * @param valueMatcher
+     *     the matcher for the value of the future
+     */
+    public static <T> FutureMatcher<T> completesWith(Matcher<? super T> valueMatcher) {
+        return new FutureMatcher<T>(valueMatcher, null, 0);
+    }
+
+    /**
+     * Creates a matcher of {@link Future}s that matches when the examined future has
+     * failed with an exception that satisfies the specified matcher. The exception is
+     * the cause of the {@link java.util.concurrent.ExecutionException} thrown by
+     * {@link Future#get()}. The future must already be complete, unless a wait is added
+     * with {@link #aFutureThat(FutureMatcher, Within)}.
+     *
+     * @param failureMatcher
+     *     the matcher for the exception the future failed with
+     */
+    public static <T> FutureMatcher<T> failsWith(Matcher<? super Throwable> failureMatcher) {
+        return new FutureMatcher<T>(null, failureMatcher, 0);
+    }
+
+    /**
+     * @return how long {@link #aFutureThat(FutureMatcher, Within)} and
+     *         {@link #everyFutureThat(FutureMatcher, Within)} wait for futures to complete
+     */
+    public static Within within(long timeout, TimeUnit unit) {
+        return new Within(unit.toNanos(timeout));
+    }
+
+    /**
+     * Creates a matcher of {@link Future}s that waits up to the given time for the
+     * examined future to complete, and then applies the specified outcome matcher.
+     * For example:
+     * <pre>assertThat(future, aFutureThat(completesWith(equalTo(42)), within(5, SECONDS)))</pre>
+     *
+     * @param outcomeMatcher
+     *     the matcher for the outcome of the future
+     * @param within
+     *     the longest time to wait
+     */
+    public static <T> FutureMatcher<T> aFutureThat(FutureMatcher<T> outcomeMatcher, Within within) {
+        return outcomeMatcher.within(within.nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Creates a matcher of {@link Iterable}s of {@link Future}s that matches when every
+     * examined future satisfies the specified outcome matcher. All the futures share one
+     * deadline, so checking many futures that run concurrently waits no longer than the
+     * slowest of them, and never longer than the given time in total.
+     * For example:
+     * <pre>assertThat(futures, everyFutureThat(completesWith(notNullValue()), within(5, SECONDS)))</pre>
+     *
+     * @param outcomeMatcher
+     *     the matcher for the outcome of each future
+     * @param within
+     *     the longest time to wait for all the futures
+     */
+    public static <T> Matcher<Iterable<? extends Future<? extends T>>> everyFutureThat(final FutureMatcher<T> outcomeMatcher, final Within within) {
+        final FutureMatcher<T> matcher = aFutureThat(outcomeMatcher, within);
+        return new TypeSafeDiagnosingMatcher<Iterable<? extends Future<? extends T>>>() {
+            @Override
+            protected boolean matchesWithoutDescribing(Iterable<? extends Future<? extends T>> futures) {
+                final long deadline = System.nanoTime() + within.nanos;
+                for (Future<? extends T> future : futures) {
+                    if (!matcher.matchesWaiting(future, deadline - System.nanoTime(), Description.NONE)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            /**
+             * Only reached when describing a mismatch, so it never waits.
+             */
+            @Override
+            protected boolean matchesSafely(Iterable<? extends Future<? extends T>> futures, Description mismatchDescription) {
+                int index = 0;
+                for (Future<? extends T> future : futures) {
+                    if (!matcher.matchesWaiting(future, 0, Description.NONE)) {
+                        mismatchDescription.appendText("future " + index + " ");
+                        matcher.describeMismatchNow(future, mismatchDescription);
+                        return false;
+                    }
+                    index++;
+                }
+                // every future matches by now, so one of them completed after the deadline
+                mismatchDescription.appendText("not every future was complete within "
+                        + TimeUnit.NANOSECONDS.toMillis(within.nanos) + "ms");
+                return false;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("every item is ").appendDescriptionOf(matcher);
+            }
+        };
+    }
+
+    /**
+     * A time to wait for futures to complete.
+     */
+    public static final class Within {
+        private final long nanos;
+
+        private Within(long nanos) {
+            this.nanos = nanos;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.hamcrest.io;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+
+/**
+ * CRC-32C (Castagnoli) checksum, as used by iSCSI, ext4 and many storage formats.
+ */
+final class Crc32c implements Checksum {
+    private static final int[] TABLE = new int[256];
+
+    static {
+        for (int n = 0; n < 256; n++) {
+            int crc = n;
+            for (int k = 0; k < 8; k++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0x82F63B78 : crc >>> 1;
+            }
+            TABLE[n] = crc;
+        }
+    }
+
+    private int crc = 0xFFFFFFFF;
+
+    @Override
+    public void update(int b) {
+        crc = TABLE[(crc ^ b) & 0xFF] ^ (crc >>> 8);
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        int c = crc;
+        for (int i = off; i < off + len; i++) {
+            c = TABLE[(c ^ b[i]) & 0xFF] ^ (c >>> 8);
+        }
+        crc = c;
+    }
+
+    /**
+     * Consumes all the remaining bytes of the buffer, which may be direct.
+     */
+    public void update(ByteBuffer buffer) {
+        int c = crc;
+        while (buffer.hasRemaining()) {
+            c = TABLE[(c ^ buffer.get()) & 0xFF] ^ (c >>> 8);
+        }
+        crc = c;
+    }
+
+    @Override
+    public long getValue() {
+        return ~crc & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+        crc = 0xFFFFFFFF;
+    }
+}
@@ -0,0 +1,72 @@
+package org.hamcrest.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+
+/**
+ * Streams file content through a per-thread direct {@link ByteBuffer}, so that files of
+ * any size can be digested without being held in memory. Nothing is shared between
+ * threads, so many files can be checked concurrently.
+ */
+final class FileChecksums {
+    static final int BLOCK_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<ByteBuffer> BLOCK = new ThreadLocal<ByteBuffer>() {
+        @Override
+        protected ByteBuffer initialValue() {
+            return ByteBuffer.allocateDirect(BLOCK_SIZE);
+        }
+    };
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private interface BlockVisitor {
+        void visit(ByteBuffer block);
+    }
+
+    private FileChecksums() { }
+
+    static String digest(File file, final MessageDigest digest) throws IOException {
+        read(file, new BlockVisitor() {
+            @Override public void visit(ByteBuffer block) {
+                digest.update(block);
+            }
+        });
+        return toHex(digest.digest());
+    }
+
+    static long crc32c(File file) throws IOException {
+        final Crc32c crc = new Crc32c();
+        read(file, new BlockVisitor() {
+            @Override public void visit(ByteBuffer block) {
+                crc.update(block);
+            }
+        });
+        return crc.getValue();
+    }
+
+    static String toHex(byte[] bytes) {
+        final char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            hex[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    private static void read(File file, BlockVisitor visitor) throws IOException {
+        final ByteBuffer block = BLOCK.get();
+        try (FileInputStream in = new FileInputStream(file); FileChannel channel = in.getChannel()) {
+            block.clear();
+            while (channel.read(block) != -1) {
+                block.flip();
+                visitor.visit(block);
+                block.clear();
+            }
+        }
+    }
+}
@@ -7,7 +7,22 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
+import static org.hamcrest.core.IsAnything.anything;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 public final class FileMatchers {
@@ -66,6 +81,314 @@ public final class FileMatchers {
         };
     }
 
+    /**
+     * Creates a matcher that matches when the whole content of the examined file, decoded as
+     * UTF-8, equals the specified text. The file is decoded and compared a window at a time
+     * and the scan stops at the first difference, so the file may be of any size. The mismatch
+     * description shows only the text around the first difference.
+     */
+    public static Matcher<File> aFileWithContent(String expected) {
+        return aFileWithContent(StandardCharsets.UTF_8, expected);
+    }
+
+    /**
+     * Creates a matcher that matches when the whole content of the examined file, decoded
+     * with the specified charset, equals the specified text.
+     */
+    public static Matcher<File> aFileWithContent(final Charset charset, final String expected) {
+        return new TypeSafeDiagnosingMatcher<File>() {
+            @Override
+            protected boolean matchesSafely(File actual, Description mismatchDescription) {
+                try {
+                    final StreamingComparison comparison = new StreamingComparison(expected);
+                    MappedFileContent.scan(actual, charset, comparison);
+                    if (!comparison.matched()) {
+                        comparison.describeMismatch(mismatchDescription);
+                        return false;
+                    }
+                    return true;
+                } catch (IOException e) {
+                    describeUnreadable(e, mismatchDescription);
+                    return false;
+                }
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("a file with content ").appendValue(expected);
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher that matches when the whole content of the examined file, decoded as
+     * UTF-8, satisfies the specified matcher. The file is memory mapped and decoded into one
+     * off-heap {@link CharBuffer}, so it is never copied onto the heap as a String. That
+     * buffer is sized before decoding, for two bytes per byte of a UTF-8 file, so the file
+     * must be smaller than 2<sup>30</sup> bytes and the buffer must fit within the JVM's
+     * direct memory limit. A file that does not is reported as unreadable, with the reason,
+     * before anything is allocated or decoded. To compare a larger file with known text, use
+     * {@link #aFileWithContent(String)}, which reads it a window at a time.
+     */
+    public static Matcher<File> aFileWithContent(Matcher<? super CharSequence> expected) {
+        return aFileWithContent(StandardCharsets.UTF_8, expected);
+    }
+
+    /**
+     * Creates a matcher that matches when the whole content of the examined file, decoded
+     * with the specified charset, satisfies the specified matcher. The limits described for
+     * {@link #aFileWithContent(Matcher)} apply, with the buffer sized for the most characters
+     * a byte of the charset can decode to.
+     */
+    public static Matcher<File> aFileWithContent(final Charset charset, final Matcher<? super CharSequence> expected) {
+        return new FileContentMatcher("a file with content", expected) {
+            @Override protected boolean matchesContent(File actual, Description mismatchDescription) throws IOException {
+                return matchFeature(MappedFileContent.decode(actual, charset), mismatchDescription);
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher that matches when a read-only, memory mapped {@link ByteBuffer} over
+     * the whole of the examined file satisfies the specified matcher. A ByteBuffer cannot
+     * exceed 2GB, so larger files are reported as unreadable.
+     * For example:
+     * <pre>assertThat(file, aFileWithBytes(equalTo(ByteBuffer.wrap(expectedBytes))))</pre>
+     */
+    public static Matcher<File> aFileWithBytes(final Matcher<? super ByteBuffer> expected) {
+        return new FileContentMatcher("a file with bytes", expected) {
+            @Override protected boolean matchesContent(File actual, Description mismatchDescription) throws IOException {
+                return matchFeature(MappedFileContent.map(actual), mismatchDescription);
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher that matches when the content of the examined file, decoded as UTF-8,
+     * contains the specified substring. The file is decoded a window at a time and the
+     * scan stops as soon as the substring is found.
+     */
+    public static Matcher<File> aFileContaining(String substring) {
+        return aFileContaining(StandardCharsets.UTF_8, substring);
+    }
+
+    /**
+     * Creates a matcher that matches when the content of the examined file, decoded with the
+     * specified charset, contains the specified substring.
+     */
+    public static Matcher<File> aFileContaining(final Charset charset, final String substring) {
+        return new TypeSafeDiagnosingMatcher<File>() {
+            @Override
+            protected boolean matchesSafely(File actual, Description mismatchDescription) {
+                try {
+                    final StreamingSubstringSearch search = new StreamingSubstringSearch(substring);
+                    if (substring.isEmpty() || !MappedFileContent.scan(actual, charset, search)) {
+                        return true;
+                    }
+                    mismatchDescription.appendText("did not contain ").appendValue(substring);
+                    return false;
+                } catch (IOException e) {
+                    describeUnreadable(e, mismatchDescription);
+                    return false;
+                }
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("a file containing ").appendValue(substring);
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher that matches when any line of the examined file, decoded as UTF-8,
+     * satisfies the specified matcher. Lines are read a window at a time and the scan stops
+     * at the first matching line.
+     */
+    public static Matcher<File> aFileWithLine(Matcher<? super String> expected) {
+        return aFileWithLine(StandardCharsets.UTF_8, expected);
+    }
+
+    /**
+     * Creates a matcher that matches when any line of the examined file, decoded with the
+     * specified charset, satisfies the specified matcher.
+     */
+    public static Matcher<File> aFileWithLine(final Charset charset, final Matcher<? super String> expected) {
+        return new TypeSafeDiagnosingMatcher<File>() {
+            @Override
+            protected boolean matchesSafely(File actual, Description mismatchDescription) {
+                try {
+                    final StreamingLineSearch search = new StreamingLineSearch(expected);
+                    if (!MappedFileContent.scan(actual, charset, search) || search.finish()) {
+                        return true;
+                    }
+                    mismatchDescription.appendText("no line was ").appendDescriptionOf(expected);
+                    return false;
+                } catch (IOException e) {
+                    describeUnreadable(e, mismatchDescription);
+                    return false;
+                }
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("a file with a line ").appendDescriptionOf(expected);
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher that matches when the {@link MessageDigest} of the examined file, using
+     * the specified algorithm, equals the specified hexadecimal string (in either case). The file
+     * is streamed through a direct buffer, so it is never held in memory. The matcher keeps no
+     * state between evaluations, so many files can be checked with it concurrently.
+     * For example:
+     * <pre>assertThat(artifact, aFileWithDigest("SHA-256", "9f86d081884c7d65..."))</pre>
+     *
+     * @throws IllegalArgumentException if the algorithm is not available
+     */
+    public static Matcher<File> aFileWithDigest(final String algorithm, final String expectedHex) {
+        try {
+            MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("Unknown digest algorithm: " + algorithm, e);
+        }
+        final String expected = expectedHex.toLowerCase(Locale.ROOT);
+        return new TypeSafeDiagnosingMatcher<File>() {
+            @Override
+            protected boolean matchesSafely(File actual, Description mismatchDescription) {
+                try {
+                    final String digest = FileChecksums.digest(actual, MessageDigest.getInstance(algorithm));
+                    if (!digest.equals(expected)) {
+                        mismatchDescription.appendText(algorithm).appendText(" digest was ").appendValue(digest);
+                        return false;
+                    }
+                    return true;
+                } catch (IOException | NoSuchAlgorithmException e) {
+                    describeUnreadable(e, mismatchDescription);
+                    return false;
+                }
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("a file with ").appendText(algorithm).appendText(" digest ").appendValue(expected);
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher that matches when the CRC-32C (Castagnoli) checksum of the examined
+     * file equals the specified value. The file is streamed through a direct buffer, so it is
+     * never held in memory.
+     * For example:
+     * <pre>assertThat(segment, aFileWithCrc32C(0xE3069283L))</pre>
+     */
+    public static Matcher<File> aFileWithCrc32C(final long expected) {
+        return new TypeSafeDiagnosingMatcher<File>() {
+            @Override
+            protected boolean matchesSafely(File actual, Description mismatchDescription) {
+                try {
+                    final long crc = FileChecksums.crc32c(actual);
+                    if (crc != expected) {
+                        mismatchDescription.appendText("CRC32C was ").appendText(crc32cText(crc));
+                        return false;
+                    }
+                    return true;
+                } catch (IOException e) {
+                    describeUnreadable(e, mismatchDescription);
+                    return false;
+                }
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("a file with CRC32C ").appendText(crc32cText(expected));
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher that matches when the examined directory contains all of the specified
+     * paths, each given relative to the directory.
+     * For example:
+     * <pre>assertThat(outputDir, aDirectoryContaining("META-INF/MANIFEST.MF", "org/hamcrest/Matcher.class"))</pre>
+     */
+    public static Matcher<File> aDirectoryContaining(final String... relativePaths) {
+        return new TypeSafeDiagnosingMatcher<File>() {
+            @Override
+            protected boolean matchesSafely(File actual, Description mismatchDescription) {
+                if (!actual.isDirectory()) {
+                    mismatchDescription.appendText("is not a directory");
+                    return false;
+                }
+                final Path root = actual.toPath();
+                final List<String> missing = new ArrayList<String>();
+                int missingCount = 0;
+                for (String relativePath : relativePaths) {
+                    if (!Files.exists(root.resolve(relativePath))) {
+                        if (++missingCount <= FileTreeScan.DEFAULT_MAX_MISMATCHES) {
+                            missing.add(relativePath);
+                        }
+                    }
+                }
+                if (missingCount > 0) {
+                    mismatchDescription.appendValueList("was missing ", ", ", "", missing);
+                    if (missingCount > missing.size()) {
+                        mismatchDescription.appendText(" and " + (missingCount - missing.size()) + " more");
+                    }
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendValueList("a directory containing ", ", ", "", Arrays.asList(relativePaths));
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher that matches when every file anywhere below the examined directory
+     * satisfies the specified matcher. The walk stops after the first
+     * 10 mismatching files.
+     * For example:
+     * <pre>assertThat(outputDir, aDirectoryWithEveryFile(aFileNamed(endsWith(".class"))))</pre>
+     */
+    public static Matcher<File> aDirectoryWithEveryFile(Matcher<? super File> fileMatcher) {
+        return aDirectoryWithEveryFile(fileMatcher, FileTreeScan.CALLING_THREAD, FileTreeScan.DEFAULT_MAX_MISMATCHES);
+    }
+
+    /**
+     * Creates a matcher that matches when every file anywhere below the examined directory
+     * satisfies the specified matcher. Files are checked on the specified executor while the
+     * tree is being walked, and the walk stops after <code>maxMismatches</code> mismatching files.
+     */
+    public static Matcher<File> aDirectoryWithEveryFile(Matcher<? super File> fileMatcher, Executor executor, int maxMismatches) {
+        return new DirectoryTreeMatcher(anything(), fileMatcher, executor, maxMismatches, "a directory in which every file is ");
+    }
+
+    /**
+     * Creates a matcher that matches when every directory below the examined directory satisfies
+     * the specified directory matcher, and every file satisfies the specified file matcher. The
+     * walk stops after the first 10 mismatches.
+     */
+    public static Matcher<File> aDirectoryTreeMatching(Matcher<? super File> directoryMatcher, Matcher<? super File> fileMatcher) {
+        return aDirectoryTreeMatching(directoryMatcher, fileMatcher, FileTreeScan.CALLING_THREAD, FileTreeScan.DEFAULT_MAX_MISMATCHES);
+    }
+
+    /**
+     * Creates a matcher that matches when every directory below the examined directory satisfies
+     * the specified directory matcher, and every file satisfies the specified file matcher. Entries
+     * are checked on the specified executor while the tree is being walked, and the walk stops
+     * after <code>maxMismatches</code> mismatches.
+     */
+    public static Matcher<File> aDirectoryTreeMatching(Matcher<? super File> directoryMatcher, Matcher<? super File> fileMatcher,
+                                                       Executor executor, int maxMismatches) {
+        return new DirectoryTreeMatcher(directoryMatcher, fileMatcher, executor, maxMismatches, null);
+    }
+
     public static interface FileStatus {
         boolean check(File actual);
     }
@@ -104,4 +427,242 @@ public final class FileMatchers {
             }
         };
     }
+
+    private static String crc32cText(long crc) {
+        return String.format("0x%08x", crc);
+    }
+
+    private static void describeUnreadable(Exception e, Description mismatchDescription) {
+        mismatchDescription.appendText("could not be read: ").appendText(String.valueOf(e.getMessage()));
+    }
+
+    private static abstract class FileContentMatcher extends TypeSafeDiagnosingMatcher<File> {
+        private final String featureDescription;
+        private final Matcher<?> subMatcher;
+
+        FileContentMatcher(String featureDescription, Matcher<?> subMatcher) {
+            super(File.class);
+            this.featureDescription = featureDescription;
+            this.subMatcher = subMatcher;
+        }
+
+        protected abstract boolean matchesContent(File actual, Description mismatchDescription) throws IOException;
+
+        protected boolean matchFeature(Object content, Description mismatchDescription) {
+            if (!subMatcher.matches(content)) {
+                mismatchDescription.appendText("content ");
+                subMatcher.describeMismatch(content, mismatchDescription);
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        protected final boolean matchesSafely(File actual, Description mismatchDescription) {
+            try {
+                return matchesContent(actual, mismatchDescription);
+            } catch (IOException e) {
+                describeUnreadable(e, mismatchDescription);
+                return false;
+            }
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(featureDescription).appendText(" ").appendDescriptionOf(subMatcher);
+        }
+    }
+
+    /**
+     * Knuth-Morris-Pratt search that carries its state from one window to the next,
+     * so that matches spanning a window boundary are found without copying.
+     */
+    private static final class StreamingSubstringSearch implements MappedFileContent.CharVisitor {
+        private final String target;
+        private final int[] failure;
+        private int matched = 0;
+
+        StreamingSubstringSearch(String target) {
+            this.target = target;
+            this.failure = new int[target.length()];
+            for (int i = 1, k = 0; i < target.length(); i++) {
+                while (k > 0 && target.charAt(i) != target.charAt(k)) {
+                    k = failure[k - 1];
+                }
+                if (target.charAt(i) == target.charAt(k)) {
+                    k++;
+                }
+                failure[i] = k;
+            }
+        }
+
+        @Override
+        public boolean visit(CharBuffer window) {
+            while (window.hasRemaining()) {
+                final char c = window.get();
+                while (matched > 0 && c != target.charAt(matched)) {
+                    matched = failure[matched - 1];
+                }
+                if (c == target.charAt(matched) && ++matched == target.length()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Compares windows of characters with the expected text, stopping once it has kept
+     * a little of the actual text that follows the first difference.
+     */
+    private static final class StreamingComparison implements MappedFileContent.CharVisitor {
+        private static final int CONTEXT = 20;
+
+        private final String expected;
+        private final StringBuilder differing = new StringBuilder();
+        private int position = 0;
+        private boolean differed = false;
+
+        StreamingComparison(String expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        public boolean visit(CharBuffer window) {
+            while (window.hasRemaining()) {
+                final char c = window.get();
+                if (!differed && position < expected.length() && c == expected.charAt(position)) {
+                    position++;
+                    continue;
+                }
+                differed = true;
+                differing.append(c);
+                if (differing.length() > CONTEXT) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean matched() {
+            return !differed && position == expected.length();
+        }
+
+        /**
+         * Describes the first difference, with up to {@value #CONTEXT} characters of
+         * context on either side.
+         */
+        void describeMismatch(Description description) {
+            final int from = Math.max(0, position - CONTEXT);
+            final String prefix = (from > 0 ? "..." : "") + expected.substring(from, position);
+            final int expectedTo = Math.min(expected.length(), position + CONTEXT);
+            final int actualTo = Math.min(differing.length(), CONTEXT);
+            description.appendText("content first differed at character " + position + ": expected ")
+                    .appendValue(prefix + expected.substring(position, expectedTo) + (expectedTo < expected.length() ? "..." : ""))
+                    .appendText(" but was ")
+                    .appendValue(prefix + differing.substring(0, actualTo) + (actualTo < differing.length() ? "..." : ""));
+        }
+    }
+
+    /**
+     * Splits windows of characters into lines, terminated by <code>\n</code> or
+     * <code>\r\n</code>, and stops at the first line accepted by the line matcher.
+     */
+    private static final class StreamingLineSearch implements MappedFileContent.CharVisitor {
+        private final Matcher<? super String> lineMatcher;
+        private final StringBuilder line = new StringBuilder();
+
+        StreamingLineSearch(Matcher<? super String> lineMatcher) {
+            this.lineMatcher = lineMatcher;
+        }
+
+        @Override
+        public boolean visit(CharBuffer window) {
+            while (window.hasRemaining()) {
+                final char c = window.get();
+                if (c == '\n') {
+                    if (endLine()) {
+                        return false;
+                    }
+                } else {
+                    line.append(c);
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Checks the final, unterminated, line.
+         */
+        boolean finish() {
+            return line.length() > 0 && endLine();
+        }
+
+        private boolean endLine() {
+            int length = line.length();
+            if (length > 0 && line.charAt(length - 1) == '\r') {
+                length--;
+            }
+            final boolean found = lineMatcher.matches(line.substring(0, length));
+            line.setLength(0);
+            return found;
+        }
+    }
+
+    private static final class DirectoryTreeMatcher extends TypeSafeDiagnosingMatcher<File> {
+        private final Matcher<? super File> directoryMatcher;
+        private final Matcher<? super File> fileMatcher;
+        private final Executor executor;
+        private final int maxMismatches;
+        private final String everyFileDescription;
+
+        DirectoryTreeMatcher(Matcher<? super File> directoryMatcher, Matcher<? super File> fileMatcher,
+                             Executor executor, int maxMismatches, String everyFileDescription) {
+            super(File.class);
+            this.directoryMatcher = directoryMatcher;
+            this.fileMatcher = fileMatcher;
+            this.executor = executor;
+            this.maxMismatches = maxMismatches;
+            this.everyFileDescription = everyFileDescription;
+            if (maxMismatches < 1) {
+                throw new IllegalArgumentException("maxMismatches must be at least 1, was " + maxMismatches);
+            }
+        }
+
+        @Override
+        protected boolean matchesSafely(File actual, Description mismatchDescription) {
+            if (!actual.isDirectory()) {
+                mismatchDescription.appendText("is not a directory");
+                return false;
+            }
+            final FileTreeScan scan = new FileTreeScan(directoryMatcher, fileMatcher, executor, maxMismatches);
+            final Map<String, String> mismatches;
+            try {
+                mismatches = scan.scan(actual.toPath());
+            } catch (IOException e) {
+                describeUnreadable(e, mismatchDescription);
+                return false;
+            }
+            if (mismatches.isEmpty()) {
+                return true;
+            }
+            mismatchDescription.appendText(scan.stoppedEarly() ? "stopped after " : "had ")
+                               .appendText(mismatches.size() + (mismatches.size() == 1 ? " mismatching entry:" : " mismatching entries:"));
+            for (Map.Entry<String, String> mismatch : mismatches.entrySet()) {
+                mismatchDescription.appendText("\n          ").appendText(mismatch.getKey())
+                                   .appendText(" ").appendText(mismatch.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            if (everyFileDescription != null) {
+                description.appendText(everyFileDescription).appendDescriptionOf(fileMatcher);
+            } else {
+                description.appendText("a directory tree in which every directory is ").appendDescriptionOf(directoryMatcher)
+                           .appendText(" and every file is ").appendDescriptionOf(fileMatcher);
+            }
+        }
+    }
 }
@@ -0,0 +1,155 @@
+package org.hamcrest.io;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Walks a directory tree with {@link Files#walkFileTree}, checking every directory and file
+ * below the root against a matcher. Checks are handed to an {@link Executor}, so that they can
+ * run in parallel with the walk, and the walk stops as soon as enough mismatches have been found.
+ */
+final class FileTreeScan {
+    static final int DEFAULT_MAX_MISMATCHES = 10;
+    private static final int MAX_IN_FLIGHT = 1024;
+
+    static final Executor CALLING_THREAD = new Executor() {
+        @Override public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final Matcher<? super File> directoryMatcher;
+    private final Matcher<? super File> fileMatcher;
+    private final Executor executor;
+    private final int maxMismatches;
+
+    private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+    private final Map<String, String> mismatches = new TreeMap<String, String>();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<RuntimeException>();
+    private volatile boolean stopped = false;
+    private volatile boolean skipped = false;
+
+    FileTreeScan(Matcher<? super File> directoryMatcher, Matcher<? super File> fileMatcher, Executor executor, int maxMismatches) {
+        this.directoryMatcher = directoryMatcher;
+        this.fileMatcher = fileMatcher;
+        this.executor = executor;
+        this.maxMismatches = maxMismatches;
+    }
+
+    /**
+     * @return the mismatches found, keyed and sorted by path relative to the root
+     */
+    Map<String, String> scan(final Path root) throws IOException {
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    if (dir.equals(root)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (stopped) {
+                        return skip();
+                    }
+                    check(root, dir, directoryMatcher);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (stopped) {
+                        return skip();
+                    }
+                    check(root, file, fileMatcher);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    if (stopped) {
+                        return skip();
+                    }
+                    record(root.relativize(file).toString(), "could not be read: " + e.getMessage());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } finally {
+            inFlight.acquireUninterruptibly(MAX_IN_FLIGHT);
+            inFlight.release(MAX_IN_FLIGHT);
+        }
+        final RuntimeException e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+        synchronized (mismatches) {
+            return new TreeMap<String, String>(mismatches);
+        }
+    }
+
+    /**
+     * @return true if the scan stopped with entries left unchecked, so there may be more mismatches
+     */
+    boolean stoppedEarly() {
+        return skipped;
+    }
+
+    private FileVisitResult skip() {
+        skipped = true;
+        return FileVisitResult.TERMINATE;
+    }
+
+    private void check(final Path root, final Path path, final Matcher<? super File> matcher) {
+        inFlight.acquireUninterruptibly();
+        try {
+            executor.execute(new Runnable() {
+                @Override public void run() {
+                    try {
+                        if (stopped) {
+                            skipped = true;
+                            return;
+                        }
+                        final File file = path.toFile();
+                        if (!matcher.matches(file)) {
+                            final StringDescription mismatch = new StringDescription();
+                            matcher.describeMismatch(file, mismatch);
+                            record(root.relativize(path).toString(), mismatch.toString());
+                        }
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        stopped = true;
+                    } finally {
+                        inFlight.release();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private void record(String path, String mismatch) {
+        synchronized (mismatches) {
+            if (mismatches.size() < maxMismatches) {
+                mismatches.put(path, mismatch);
+            } else {
+                skipped = true;
+            }
+            if (mismatches.size() >= maxMismatches) {
+                stopped = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.hamcrest.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+
+/**
+ * Reads file content through memory mapped {@link FileChannel} regions, so that large files
+ * can be examined without first copying them onto the heap.
+ */
+final class MappedFileContent {
+    static final int MAP_WINDOW_BYTES = 64 * 1024 * 1024;
+    static final int CHAR_WINDOW = 64 * 1024;
+    /** The most characters {@link #decode(File, Charset)} can hold, as two bytes each must fit in a ByteBuffer. */
+    static final int MAX_DECODED_CHARS = Integer.MAX_VALUE / 2;
+
+    /**
+     * Receives successive windows of decoded characters.
+     */
+    interface CharVisitor {
+        /**
+         * @return <code>false</code> to stop the scan early
+         */
+        boolean visit(CharBuffer window);
+    }
+
+    private MappedFileContent() { }
+
+    /**
+     * Maps the whole of the file, read-only.
+     */
+    static ByteBuffer map(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("file is too large to map in a single buffer (" + size + " bytes)");
+            }
+            return channel.map(READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Decodes the whole of the file into a direct, and so off-heap, {@link CharBuffer}.
+     * The buffer is sized for the most characters the file could decode to, which must be
+     * at most {@link #MAX_DECODED_CHARS}, and must fit in the direct memory the JVM allows.
+     * Otherwise an IOException saying so is thrown before anything is decoded.
+     */
+    static CharBuffer decode(File file, Charset charset) throws IOException {
+        final long maxChars = (long) Math.ceil(file.length() * (double) charset.newDecoder().maxCharsPerByte());
+        if (maxChars > MAX_DECODED_CHARS) {
+            throw new IOException("file of " + file.length() + " bytes may decode to " + maxChars
+                    + " characters, more than the " + MAX_DECODED_CHARS + " one buffer can hold;"
+                    + " compare it with known text, which is read a window at a time");
+        }
+        final CharBuffer content;
+        try {
+            content = ByteBuffer.allocateDirect((int) maxChars * 2).asCharBuffer();
+        } catch (OutOfMemoryError e) {
+            throw new IOException("not enough direct memory to decode a file of " + file.length() + " bytes"
+                    + " into one buffer of " + maxChars * 2 + " bytes; raise -XX:MaxDirectMemorySize,"
+                    + " or compare it with known text, which is read a window at a time", e);
+        }
+        scan(file, charset, new CharVisitor() {
+            @Override public boolean visit(CharBuffer window) {
+                content.put(window);
+                return true;
+            }
+        });
+        content.flip();
+        return content;
+    }
+
+    /**
+     * Decodes the file a window at a time, mapping at most {@link #MAP_WINDOW_BYTES} and
+     * holding at most {@link #CHAR_WINDOW} decoded characters at once. Malformed input is
+     * replaced, as it is by {@link String#String(byte[], Charset)}.
+     *
+     * @return <code>false</code> if the visitor stopped the scan early
+     */
+    static boolean scan(File file, Charset charset, CharVisitor visitor) throws IOException {
+        final CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final CharBuffer chars = CharBuffer.allocate(CHAR_WINDOW);
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+            final long size = channel.size();
+            long position = 0;
+            boolean last;
+            do {
+                final long length = Math.min(MAP_WINDOW_BYTES, size - position);
+                last = position + length == size;
+                final MappedByteBuffer bytes = channel.map(READ_ONLY, position, length);
+                CoderResult result;
+                while ((result = decoder.decode(bytes, chars, last)).isOverflow()) {
+                    if (!drain(chars, visitor)) {
+                        return false;
+                    }
+                }
+                throwIfError(result);
+                position += bytes.position();
+            } while (!last);
+
+            CoderResult result;
+            while ((result = decoder.flush(chars)).isOverflow()) {
+                if (!drain(chars, visitor)) {
+                    return false;
+                }
+            }
+            throwIfError(result);
+            return drain(chars, visitor);
+        }
+    }
+
+    private static boolean drain(CharBuffer chars, CharVisitor visitor) {
+        chars.flip();
+        final boolean carryOn = !chars.hasRemaining() || visitor.visit(chars);
+        chars.clear();
+        return carryOn;
+    }
+
+    private static void throwIfError(CoderResult result) throws IOException {
+        if (result.isError()) {
+            result.throwException();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.hamcrest.io;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.nio.file.Path;
+
+/**
+ * A check on the attributes of a {@link Path}. Used on its own it reads the attributes it needs
+ * once per evaluation; combined with {@link PathMatchers#aPathWith(PathAttributeMatcher...)}
+ * the attributes are read once and shared by all the checks.
+ */
+public abstract class PathAttributeMatcher extends TypeSafeDiagnosingMatcher<Path> {
+
+    PathAttributeMatcher() {
+        super(Path.class);
+    }
+
+    abstract boolean matchesAttributes(PathAttributes attributes, Description mismatchDescription);
+
+    @Override
+    protected final boolean matchesSafely(Path actual, Description mismatchDescription) {
+        return matchesAttributes(new PathAttributes(actual), mismatchDescription);
+    }
+}
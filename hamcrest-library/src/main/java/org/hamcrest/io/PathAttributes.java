@@ -0,0 +1,76 @@
+package org.hamcrest.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
+
+/**
+ * The attributes of a path, read from the file system at most once each, so that several
+ * checks against the same path can share a single bulk attribute read.
+ */
+final class PathAttributes {
+    private final Path path;
+
+    private boolean basicRead = false;
+    private BasicFileAttributes basic;
+    private boolean posixRead = false;
+    private PosixFileAttributes posix;
+    private Boolean readable;
+    private Boolean writable;
+
+    PathAttributes(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * @return the basic attributes, or <code>null</code> if the path does not exist or
+     *         cannot be examined
+     */
+    BasicFileAttributes basic() {
+        if (!basicRead) {
+            basicRead = true;
+            basic = posixRead && posix != null ? posix : read(BasicFileAttributes.class);
+        }
+        return basic;
+    }
+
+    /**
+     * @return the POSIX attributes, or <code>null</code> if the path does not exist, cannot be
+     *         examined or the file system does not support POSIX attributes
+     */
+    PosixFileAttributes posix() {
+        if (!posixRead) {
+            posixRead = true;
+            posix = read(PosixFileAttributes.class);
+        }
+        return posix;
+    }
+
+    boolean exists() {
+        return basic() != null;
+    }
+
+    boolean isReadable() {
+        if (readable == null) {
+            readable = exists() && Files.isReadable(path);
+        }
+        return readable;
+    }
+
+    boolean isWritable() {
+        if (writable == null) {
+            writable = exists() && Files.isWritable(path);
+        }
+        return writable;
+    }
+
+    private <A extends BasicFileAttributes> A read(Class<A> type) {
+        try {
+            return Files.readAttributes(path, type);
+        } catch (IOException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.hamcrest.io;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * {@link Path} counterparts of the {@link FileMatchers} status checks. Each check reads the file
+ * attributes in bulk rather than making a separate file system call per property, and
+ * {@link #aPathWith(PathAttributeMatcher...)} shares one read between several checks.
+ */
+public final class PathMatchers {
+
+    private PathMatchers() { }
+
+    public static PathAttributeMatcher anExistingDirectory() {
+        return new PathAttributeMatcher() {
+            @Override boolean matchesAttributes(PathAttributes attributes, Description mismatchDescription) {
+                final BasicFileAttributes basic = attributes.basic();
+                return check(basic != null && basic.isDirectory(), "is not a directory", mismatchDescription);
+            }
+
+            @Override public void describeTo(Description description) {
+                description.appendText("an existing directory");
+            }
+        };
+    }
+
+    public static PathAttributeMatcher anExistingFileOrDirectory() {
+        return new PathAttributeMatcher() {
+            @Override boolean matchesAttributes(PathAttributes attributes, Description mismatchDescription) {
+                return check(attributes.exists(), "does not exist", mismatchDescription);
+            }
+
+            @Override public void describeTo(Description description) {
+                description.appendText("an existing file or directory");
+            }
+        };
+    }
+
+    public static PathAttributeMatcher anExistingFile() {
+        return new PathAttributeMatcher() {
+            @Override boolean matchesAttributes(PathAttributes attributes, Description mismatchDescription) {
+                final BasicFileAttributes basic = attributes.basic();
+                return check(basic != null && basic.isRegularFile(), "is not a file", mismatchDescription);
+            }
+
+            @Override public void describeTo(Description description) {
+                description.appendText("an existing File");
+            }
+        };
+    }
+
+    public static PathAttributeMatcher aReadableFile() {
+        return new PathAttributeMatcher() {
+            @Override boolean matchesAttributes(PathAttributes attributes, Description mismatchDescription) {
+                return check(attributes.isReadable(), "cannot be read", mismatchDescription);
+            }
+
+            @Override public void describeTo(Description description) {
+                description.appendText("a readable File");
+            }
+        };
+    }
+
+    public static PathAttributeMatcher aWritableFile() {
+        return new PathAttributeMatcher() {
+            @Override boolean matchesAttributes(PathAttributes attributes, Description mismatchDescription) {
+                return check(attributes.isWritable(), "cannot be written to", mismatchDescription);
+            }
+
+            @Override public void describeTo(Description description) {
+                description.appendText("a writable File");
+            }
+        };
+    }
+
+    public static PathAttributeMatcher aFileWithSize(long size) {
+        return aFileWithSize(equalTo(size));
+    }
+
+    public static PathAttributeMatcher aFileWithSize(final Matcher<Long> expected) {
+        return new PathAttributeMatcher() {
+            @Override boolean matchesAttributes(PathAttributes attributes, Description mismatchDescription) {
+                final BasicFileAttributes basic = attributes.basic();
+                if (basic == null) {
+                    mismatchDescription.appendText("does not exist");
+                    return false;
+                }
+                return feature(basic.size(), expected, "size", mismatchDescription);
+            }
+
+            @Override public void describeTo(Description description) {
+                description.appendText("A file with size ").appendDescriptionOf(expected);
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher of {@link Path} that matches when the POSIX permissions of the examined
+     * path satisfy the specified matcher. Paths on file systems without POSIX attributes do not match.
+     * For example:
+     * <pre>assertThat(script, aFileWithPosixPermissions(hasItem(OWNER_EXECUTE)))</pre>
+     */
+    public static PathAttributeMatcher aFileWithPosixPermissions(final Matcher<? super Set<PosixFilePermission>> expected) {
+        return new PathAttributeMatcher() {
+            @Override boolean matchesAttributes(PathAttributes attributes, Description mismatchDescription) {
+                final PosixFileAttributes posix = attributes.posix();
+                if (posix == null) {
+                    mismatchDescription.appendText("has no POSIX permissions");
+                    return false;
+                }
+                return feature(posix.permissions(), expected, "permissions", mismatchDescription);
+            }
+
+            @Override public void describeTo(Description description) {
+                description.appendText("A file with permissions ").appendDescriptionOf(expected);
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher of {@link Path} that matches when the examined path satisfies <b>ALL</b>
+     * of the specified checks. The file attributes are read once and shared by every check,
+     * and evaluation stops at the first check that fails.
+     * For example:
+     * <pre>assertThat(path, aPathWith(anExistingFile(), aReadableFile(), aFileWithSize(1024L)))</pre>
+     */
+    public static Matcher<Path> aPathWith(PathAttributeMatcher... checks) {
+        final List<PathAttributeMatcher> matchers = Arrays.asList(checks);
+        return new TypeSafeDiagnosingMatcher<Path>() {
+            @Override
+            protected boolean matchesSafely(Path actual, Description mismatchDescription) {
+                final PathAttributes attributes = new PathAttributes(actual);
+                for (PathAttributeMatcher matcher : matchers) {
+                    if (!matcher.matchesAttributes(attributes, Description.NONE)) {
+                        mismatchDescription.appendDescriptionOf(matcher).appendText(" ");
+                        matcher.matchesAttributes(attributes, mismatchDescription);
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendList("(", " and ", ")", matchers);
+            }
+        };
+    }
+
+    private static boolean check(boolean result, String failureDescription, Description mismatchDescription) {
+        if (!result) {
+            mismatchDescription.appendText(failureDescription);
+        }
+        return result;
+    }
+
+    private static <U> boolean feature(U value, Matcher<? super U> expected, String featureName, Description mismatchDescription) {
+        if (!expected.matches(value)) {
+            mismatchDescription.appendText(featureName).appendText(" ");
+            expected.describeMismatch(value, mismatchDescription);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,95 @@
+package org.hamcrest.metrics;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Decorates a matcher so that, while {@link MatcherMetrics} is enabled, every call to
+ * {@link #matches(Object)} is counted and timed under a tag.
+ * <p>
+ * The tag is either given when the matcher is created or, by default, the description
+ * of the wrapped matcher, worked out on the first recorded match. Descriptions and
+ * mismatch descriptions are passed straight through and are not recorded.
+ */
+public class InstrumentedMatcher<T> extends BaseMatcher<T> {
+    private final Matcher<T> matcher;
+    private final String tag;
+    private volatile MatcherStats stats;
+
+    public InstrumentedMatcher(String tag, Matcher<T> matcher) {
+        this.tag = tag;
+        this.matcher = matcher;
+    }
+
+    @Override
+    public boolean matches(Object item) {
+        if (!MatcherMetrics.isEnabled()) {
+            return matcher.matches(item);
+        }
+        final MatcherStats recorder = stats();
+        final long start = System.nanoTime();
+        final boolean matched;
+        try {
+            matched = matcher.matches(item);
+        } catch (RuntimeException | Error e) {
+            recorder.recordError(System.nanoTime() - start);
+            throw e;
+        }
+        recorder.recordMatch(matched, System.nanoTime() - start);
+        return matched;
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description mismatchDescription) {
+        matcher.describeMismatch(item, mismatchDescription);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendDescriptionOf(matcher);
+    }
+
+    private MatcherStats stats() {
+        MatcherStats result = stats;
+        if (result == null) {
+            result = MatcherMetrics.statsFor(tag != null ? tag : StringDescription.toString(matcher));
+            stats = result;
+        }
+        return result;
+    }
+
+    /**
+     * Creates a matcher that behaves like the specified matcher and, while
+     * {@link MatcherMetrics} is enabled, records its invocations and latencies under the
+     * matcher's own description.
+     * For example:
+     * <pre>assertThat(order, instrumented(hasProperty("total", greaterThan(ZERO))))</pre>
+     *
+     * @param matcher
+     *     the matcher to record
+     */
+    public static <T> Matcher<T> instrumented(Matcher<T> matcher) {
+        return new InstrumentedMatcher<T>(null, matcher);
+    }
+
+    /**
+     * Creates a matcher that behaves like the specified matcher and, while
+     * {@link MatcherMetrics} is enabled, records its invocations and latencies under the
+     * given tag. Matchers that share a tag share statistics.
+     * For example:
+     * <pre>assertThat(order, instrumented("order has a total", hasProperty("total", greaterThan(ZERO))))</pre>
+     *
+     * @param tag
+     *     the name to record statistics under
+     * @param matcher
+     *     the matcher to record
+     */
+    public static <T> Matcher<T> instrumented(String tag, Matcher<T> matcher) {
+        if (tag == null) {
+            throw new IllegalArgumentException("tag must not be null");
+        }
+        return new InstrumentedMatcher<T>(tag, matcher);
+    }
+}
@@ -0,0 +1,141 @@
+package org.hamcrest.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The global registry of statistics recorded by {@link InstrumentedMatcher}s.
+ * <p>
+ * Recording is off until {@link #enable()} is called. While it is off an instrumented
+ * matcher costs one volatile read on top of the matcher it wraps. Statistics are kept per
+ * tag, which is either supplied by the caller or taken from the wrapped matcher's
+ * description, and can be read with {@link #snapshot()} or, after
+ * {@link #registerMBeans()}, through JMX as {@code org.hamcrest:type=MatcherStats,name=<tag>}.
+ * <p>
+ * Tags are never removed, so a default tag should not be used with matchers whose
+ * descriptions vary without limit, such as one per expected value; pass a fixed tag instead.
+ */
+public final class MatcherMetrics {
+    static final String OBJECT_NAME_PREFIX = "org.hamcrest:type=MatcherStats,name=";
+
+    private static final ConcurrentMap<String, MatcherStats> STATS = new ConcurrentHashMap<String, MatcherStats>();
+    private static volatile boolean enabled = false;
+    private static boolean mbeansRegistered = false;
+
+    private MatcherMetrics() { }
+
+    /**
+     * Starts recording statistics for every instrumented matcher.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Stops recording. Statistics recorded so far are kept.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets every recorded count and histogram back to zero. Tags, and their MBeans, are kept.
+     */
+    public static void reset() {
+        for (MatcherStats stats : STATS.values()) {
+            stats.reset();
+        }
+    }
+
+    /**
+     * @return a copy of the statistics of every tag seen so far, sorted by tag
+     */
+    public static List<MatcherStatsSnapshot> snapshot() {
+        final List<String> tags = new ArrayList<String>(STATS.keySet());
+        Collections.sort(tags);
+        final List<MatcherStatsSnapshot> result = new ArrayList<MatcherStatsSnapshot>(tags.size());
+        for (String tag : tags) {
+            result.add(STATS.get(tag).snapshot());
+        }
+        return result;
+    }
+
+    /**
+     * @return a copy of the statistics of the given tag, or null if it has not been seen
+     */
+    public static MatcherStatsSnapshot snapshot(String tag) {
+        final MatcherStats stats = STATS.get(tag);
+        return stats == null ? null : stats.snapshot();
+    }
+
+    /**
+     * Registers an MBean for every tag with the platform MBean server, and for every new
+     * tag from now on, until {@link #unregisterMBeans()} is called.
+     */
+    public static synchronized void registerMBeans() {
+        mbeansRegistered = true;
+        for (MatcherStats stats : STATS.values()) {
+            register(stats);
+        }
+    }
+
+    public static synchronized void unregisterMBeans() {
+        mbeansRegistered = false;
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (MatcherStats stats : STATS.values()) {
+            try {
+                final ObjectName name = objectNameFor(stats.getTag());
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (JMException e) {
+                throw new IllegalStateException("Could not unregister MBean for " + stats.getTag(), e);
+            }
+        }
+    }
+
+    static ObjectName objectNameFor(String tag) throws JMException {
+        return new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(tag));
+    }
+
+    static MatcherStats statsFor(String tag) {
+        final MatcherStats existing = STATS.get(tag);
+        if (existing != null) {
+            return existing;
+        }
+        final MatcherStats created = new MatcherStats(tag);
+        final MatcherStats raced = STATS.putIfAbsent(tag, created);
+        if (raced != null) {
+            return raced;
+        }
+        synchronized (MatcherMetrics.class) {
+            if (mbeansRegistered) {
+                register(created);
+            }
+        }
+        return created;
+    }
+
+    private static void register(MatcherStats stats) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = objectNameFor(stats.getTag());
+            if (!server.isRegistered(name)) {
+                server.registerMBean(stats, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register MBean for " + stats.getTag(), e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.hamcrest.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The live statistics of one tag. Recording is lock-free, so many threads can
+ * share one tag.
+ */
+final class MatcherStats implements MatcherStatsMXBean {
+    /** Bucket 0 holds 0ns; bucket i holds latencies from 2^(i-1) up to 2^i - 1 ns. */
+    static final int BUCKETS = 64;
+
+    private final String tag;
+    private final AtomicLong passes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    MatcherStats(String tag) {
+        this.tag = tag;
+    }
+
+    void recordMatch(boolean matched, long nanos) {
+        (matched ? passes : failures).incrementAndGet();
+        recordLatency(nanos);
+    }
+
+    void recordError(long nanos) {
+        errors.incrementAndGet();
+        recordLatency(nanos);
+    }
+
+    private void recordLatency(long nanos) {
+        final long latency = Math.max(0, nanos);
+        totalNanos.addAndGet(latency);
+        histogram.incrementAndGet(bucketOf(latency));
+        long max = maxNanos.get();
+        while (latency > max && !maxNanos.compareAndSet(max, latency)) {
+            max = maxNanos.get();
+        }
+    }
+
+    void reset() {
+        passes.set(0);
+        failures.set(0);
+        errors.set(0);
+        totalNanos.set(0);
+        maxNanos.set(0);
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram.set(i, 0);
+        }
+    }
+
+    MatcherStatsSnapshot snapshot() {
+        final long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = histogram.get(i);
+        }
+        return new MatcherStatsSnapshot(tag, passes.get(), failures.get(), errors.get(),
+                totalNanos.get(), maxNanos.get(), buckets);
+    }
+
+    static int bucketOf(long nanos) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    static long bucketUpperBound(int bucket) {
+        return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    @Override
+    public String getTag() {
+        return tag;
+    }
+
+    @Override
+    public long getInvocations() {
+        return passes.get() + failures.get() + errors.get();
+    }
+
+    @Override
+    public long getPasses() {
+        return passes.get();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.get();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.get();
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    @Override
+    public long getMedianNanos() {
+        return snapshot().getMedianNanos();
+    }
+
+    @Override
+    public long getNinetyNinthPercentileNanos() {
+        return snapshot().getNinetyNinthPercentileNanos();
+    }
+}
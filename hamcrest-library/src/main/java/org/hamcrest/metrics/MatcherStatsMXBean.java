@@ -0,0 +1,25 @@
+package org.hamcrest.metrics;
+
+/**
+ * The statistics of one tag, as exposed through JMX.
+ */
+public interface MatcherStatsMXBean {
+    String getTag();
+
+    long getInvocations();
+
+    long getPasses();
+
+    long getFailures();
+
+    /** @return the number of invocations that threw an exception */
+    long getErrors();
+
+    long getTotalNanos();
+
+    long getMaxNanos();
+
+    long getMedianNanos();
+
+    long getNinetyNinthPercentileNanos();
+}
@@ -0,0 +1,106 @@
+package org.hamcrest.metrics;
+
+/**
+ * An immutable copy of the statistics recorded for one tag.
+ * <p>
+ * Latencies are kept in a histogram of power-of-two buckets, so percentiles are
+ * reported as the upper bound of the bucket they fall into: accurate to within a
+ * factor of two, which is enough to tell fast checks from slow ones.
+ */
+public final class MatcherStatsSnapshot implements MatcherStatsMXBean {
+    private final String tag;
+    private final long passes;
+    private final long failures;
+    private final long errors;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] histogram;
+
+    MatcherStatsSnapshot(String tag, long passes, long failures, long errors, long totalNanos, long maxNanos, long[] histogram) {
+        this.tag = tag;
+        this.passes = passes;
+        this.failures = failures;
+        this.errors = errors;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.histogram = histogram;
+    }
+
+    @Override
+    public String getTag() {
+        return tag;
+    }
+
+    @Override
+    public long getInvocations() {
+        return passes + failures + errors;
+    }
+
+    @Override
+    public long getPasses() {
+        return passes;
+    }
+
+    @Override
+    public long getFailures() {
+        return failures;
+    }
+
+    @Override
+    public long getErrors() {
+        return errors;
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public long getMedianNanos() {
+        return percentileNanos(50.0);
+    }
+
+    @Override
+    public long getNinetyNinthPercentileNanos() {
+        return percentileNanos(99.0);
+    }
+
+    /**
+     * @param percentile a value from 0 to 100
+     * @return an upper bound on the latency of the given percentile of invocations,
+     *         no greater than the maximum seen; 0 if nothing has been recorded
+     */
+    public long percentileNanos(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100, was " + percentile);
+        }
+        long count = 0;
+        for (long bucket : histogram) {
+            count += bucket;
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return Math.min(maxNanos, MatcherStats.bucketUpperBound(i));
+            }
+        }
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return tag + ": " + getInvocations() + " invocations, " + passes + " passed, " + failures + " failed, "
+                + errors + " errors, median " + getMedianNanos() + "ns, max " + maxNanos + "ns";
+    }
+}
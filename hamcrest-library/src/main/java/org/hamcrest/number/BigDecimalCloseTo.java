@@ -7,19 +7,31 @@ import org.hamcrest.TypeSafeMatcher;
 import java.math.BigDecimal;
 import java.math.MathContext;
 
+/**
+ * Is the value a BigDecimal equal to a value within some range of
+ * acceptable error?
+ * <p>
+ * The bounds of the range are worked out exactly, once, so a match is two
+ * comparisons; the difference from the expected value is only calculated to
+ * describe a mismatch.
+ */
 public class BigDecimalCloseTo extends TypeSafeMatcher<BigDecimal> {
 
   private final BigDecimal delta;
   private final BigDecimal value;
+  private final BigDecimal lowerBound;
+  private final BigDecimal upperBound;
 
   public BigDecimalCloseTo(BigDecimal value, BigDecimal error) {
       this.delta = error;
       this.value = value;
+      this.lowerBound = value.subtract(error);
+      this.upperBound = value.add(error);
   }
 
   @Override
   public boolean matchesSafely(BigDecimal item) {
-      return actualDelta(item).compareTo(BigDecimal.ZERO) <= 0;
+      return item.compareTo(lowerBound) >= 0 && item.compareTo(upperBound) <= 0;
   }
 
   @Override
@@ -59,5 +71,22 @@ public class BigDecimalCloseTo extends TypeSafeMatcher<BigDecimal> {
       return new BigDecimalCloseTo(operand, error);
   }
 
+  /**
+   * Creates a matcher of {@link java.math.BigDecimal}s that matches when an examined BigDecimal is equal
+   * to the specified <code>operand</code>, within a range of +/- <code>relativeError</code> times the
+   * magnitude of the operand. The comparison for equality is done by BigDecimals
+   * {@link java.math.BigDecimal#compareTo(java.math.BigDecimal)} method.
+   * For example:
+   * <pre>assertThat(new BigDecimal("101"), is(closeToRelatively(new BigDecimal("100"), new BigDecimal("0.01"))))</pre>
+   * 
+   * @param operand
+   *     the expected value of matching BigDecimals
+   * @param relativeError
+   *     the fraction of the operand (+/-) within which matches will be allowed
+   */
+  public static Matcher<BigDecimal> closeToRelatively(BigDecimal operand, BigDecimal relativeError) {
+      return new BigDecimalCloseTo(operand, operand.abs().multiply(relativeError));
+  }
+
 }
 
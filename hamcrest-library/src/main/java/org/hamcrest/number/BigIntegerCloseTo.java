@@ -0,0 +1,69 @@
+package org.hamcrest.number;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.math.BigInteger;
+
+/**
+ * Is the value a BigInteger equal to a value within some range of
+ * acceptable error?
+ * <p>
+ * The bounds of the range are worked out once, so a match is two comparisons.
+ */
+public class BigIntegerCloseTo extends TypeSafeMatcher<BigInteger> {
+
+  private final BigInteger delta;
+  private final BigInteger value;
+  private final BigInteger lowerBound;
+  private final BigInteger upperBound;
+
+  public BigIntegerCloseTo(BigInteger value, BigInteger error) {
+      if (error.signum() < 0) {
+          throw new IllegalArgumentException("error must not be negative, was " + error);
+      }
+      this.delta = error;
+      this.value = value;
+      this.lowerBound = value.subtract(error);
+      this.upperBound = value.add(error);
+  }
+
+  @Override
+  public boolean matchesSafely(BigInteger item) {
+      return item.compareTo(lowerBound) >= 0 && item.compareTo(upperBound) <= 0;
+  }
+
+  @Override
+  public void describeMismatchSafely(BigInteger item, Description mismatchDescription) {
+      mismatchDescription.appendValue(item)
+              .appendText(" differed by ")
+              .appendValue(item.subtract(value).abs().subtract(delta))
+              .appendText(" more than delta ")
+              .appendValue(delta);
+  }
+
+  @Override
+  public void describeTo(Description description) {
+      description.appendText("a numeric value within ")
+              .appendValue(delta)
+              .appendText(" of ")
+              .appendValue(value);
+  }
+
+  /**
+   * Creates a matcher of {@link java.math.BigInteger}s that matches when an examined BigInteger is equal
+   * to the specified <code>operand</code>, within a range of +/- <code>error</code>.
+   * For example:
+   * <pre>assertThat(BigInteger.valueOf(103), is(closeTo(BigInteger.valueOf(100), BigInteger.valueOf(3))))</pre>
+   * 
+   * @param operand
+   *     the expected value of matching BigIntegers
+   * @param error
+   *     the delta (+/-) within which matches will be allowed
+   */
+  public static Matcher<BigInteger> closeTo(BigInteger operand, BigInteger error) {
+      return new BigIntegerCloseTo(operand, error);
+  }
+
+}
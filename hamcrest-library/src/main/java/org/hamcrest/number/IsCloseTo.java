@@ -4,6 +4,8 @@ import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
 
+import java.math.BigInteger;
+
 import static java.lang.Math.abs;
 
 
@@ -60,4 +62,103 @@ public class IsCloseTo extends TypeSafeMatcher<Double> {
     public static Matcher<Double> closeTo(double operand, double error) {
         return new IsCloseTo(operand, error);
     }
+
+    /**
+     * Creates a matcher of {@link Double}s that matches when an examined double is equal
+     * to the specified <code>operand</code>, within a range of +/- <code>relativeError</code>
+     * times the magnitude of the operand.
+     * For example:
+     * <pre>assertThat(101.0, is(closeToRelatively(100.0, 0.01)))</pre>
+     * 
+     * @param operand
+     *     the expected value of matching doubles
+     * @param relativeError
+     *     the fraction of the operand (+/-) within which matches will be allowed
+     */
+    public static Matcher<Double> closeToRelatively(double operand, double relativeError) {
+        return new IsCloseTo(operand, abs(operand) * relativeError);
+    }
+
+    /**
+     * Creates a matcher of {@link Double}s that matches when an examined double is at most
+     * <code>ulps</code> representable doubles away from the specified <code>operand</code>.
+     * Positive and negative zero count as the same value, and NaN matches nothing.
+     * For example:
+     * <pre>assertThat(0.1 + 0.2, is(closeToUlps(0.3, 1)))</pre>
+     * 
+     * @param operand
+     *     the expected value of matching doubles
+     * @param ulps
+     *     the number of units in the last place (+/-) within which matches will be allowed
+     */
+    public static Matcher<Double> closeToUlps(double operand, long ulps) {
+        return new IsCloseToUlps(operand, ulps);
+    }
+
+    private static final class IsCloseToUlps extends TypeSafeMatcher<Double> {
+        private static final long NEGATIVE_INFINITY = ordered(Double.NEGATIVE_INFINITY);
+        private static final long POSITIVE_INFINITY = ordered(Double.POSITIVE_INFINITY);
+
+        private final double value;
+        private final long ulps;
+        private final double lowerBound;
+        private final double upperBound;
+
+        private IsCloseToUlps(double value, long ulps) {
+            if (ulps < 0) {
+                throw new IllegalArgumentException("ulps must not be negative, was " + ulps);
+            }
+            this.value = value;
+            this.ulps = ulps;
+            final long ordered = ordered(value);
+            long lower = ordered - ulps;
+            if (lower > ordered || lower < NEGATIVE_INFINITY) {
+                lower = NEGATIVE_INFINITY;
+            }
+            long upper = ordered + ulps;
+            if (upper < ordered || upper > POSITIVE_INFINITY) {
+                upper = POSITIVE_INFINITY;
+            }
+            this.lowerBound = Double.isNaN(value) ? value : fromOrdered(lower);
+            this.upperBound = Double.isNaN(value) ? value : fromOrdered(upper);
+        }
+
+        @Override
+        public boolean matchesSafely(Double item) {
+            final double actual = item;
+            return lowerBound <= actual && actual <= upperBound;
+        }
+
+        @Override
+        public void describeMismatchSafely(Double item, Description mismatchDescription) {
+            mismatchDescription.appendValue(item);
+            if (Double.isNaN(item) || Double.isNaN(value)) {
+                mismatchDescription.appendText(" was not comparable");
+            } else {
+                mismatchDescription.appendText(" differed by ")
+                                   .appendText(BigInteger.valueOf(ordered(item)).subtract(BigInteger.valueOf(ordered(value))).abs().toString())
+                                   .appendText(" ulps");
+            }
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("a numeric value within ")
+                    .appendText(String.valueOf(ulps))
+                    .appendText(" ulps of ")
+                    .appendValue(value);
+        }
+
+        /**
+         * Maps doubles onto longs so that adjacent doubles are adjacent longs, with both zeros at 0.
+         */
+        private static long ordered(double d) {
+            final long bits = Double.doubleToLongBits(d);
+            return bits >= 0 ? bits : Long.MIN_VALUE - bits;
+        }
+
+        private static double fromOrdered(long ordered) {
+            return Double.longBitsToDouble(ordered >= 0 ? ordered : Long.MIN_VALUE - ordered);
+        }
+    }
 }
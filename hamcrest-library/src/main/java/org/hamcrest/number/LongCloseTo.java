@@ -0,0 +1,69 @@
+package org.hamcrest.number;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.math.BigInteger;
+
+/**
+ * Is the value a long equal to a value within some range of
+ * acceptable error?
+ * <p>
+ * The bounds of the range are worked out once, clamped to the range of
+ * {@code long}, so a match is two comparisons and cannot overflow.
+ */
+public class LongCloseTo extends TypeSafeMatcher<Long> {
+    private final long delta;
+    private final long value;
+    private final long lowerBound;
+    private final long upperBound;
+
+    public LongCloseTo(long value, long error) {
+        if (error < 0) {
+            throw new IllegalArgumentException("error must not be negative, was " + error);
+        }
+        this.delta = error;
+        this.value = value;
+        this.lowerBound = value < Long.MIN_VALUE + error ? Long.MIN_VALUE : value - error;
+        this.upperBound = value > Long.MAX_VALUE - error ? Long.MAX_VALUE : value + error;
+    }
+
+    @Override
+    public boolean matchesSafely(Long item) {
+        final long actual = item;
+        return lowerBound <= actual && actual <= upperBound;
+    }
+
+    @Override
+    public void describeMismatchSafely(Long item, Description mismatchDescription) {
+      mismatchDescription.appendValue(item)
+                         .appendText(" differed by ")
+                         .appendValue(BigInteger.valueOf(item).subtract(BigInteger.valueOf(value)).abs().subtract(BigInteger.valueOf(delta)))
+                         .appendText(" more than delta ")
+                         .appendValue(delta);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("a numeric value within ")
+                .appendValue(delta)
+                .appendText(" of ")
+                .appendValue(value);
+    }
+
+    /**
+     * Creates a matcher of {@link Long}s that matches when an examined long is equal
+     * to the specified <code>operand</code>, within a range of +/- <code>error</code>.
+     * For example:
+     * <pre>assertThat(103L, is(closeTo(100L, 3L)))</pre>
+     * 
+     * @param operand
+     *     the expected value of matching longs
+     * @param error
+     *     the delta (+/-) within which matches will be allowed
+     */
+    public static Matcher<Long> closeTo(long operand, long error) {
+        return new LongCloseTo(operand, error);
+    }
+}
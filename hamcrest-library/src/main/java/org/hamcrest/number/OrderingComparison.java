@@ -76,4 +76,34 @@ public class OrderingComparison {
     public static <T extends Comparable<T>> Matcher<T> lessThanOrEqualTo(T value) {
         return ComparatorMatcherBuilder.<T>usingNaturalOrdering().lessThanOrEqualTo(value);
     }
+
+    /**
+     * Creates a matcher of {@link Comparable} object that matches when the examined object is
+     * between the specified values, inclusive, as reported by the <code>compareTo</code> method
+     * of the <b>examined</b> object.
+     * For example:
+     * <pre>assertThat(2, between(1, 3))</pre>
+     *
+     * @param from the lowest value that matches
+     * @param to the highest value that matches
+     */
+    public static <T extends Comparable<T>> Matcher<T> between(T from, T to) {
+        return ComparatorMatcherBuilder.<T>usingNaturalOrdering().between(from, to);
+    }
+
+    /**
+     * Creates a matcher of {@link Comparable} object that matches when the examined object lies
+     * in the range between the specified values, as reported by the <code>compareTo</code> method
+     * of the <b>examined</b> object. Each bound may be open or closed.
+     * For example:
+     * <pre>assertThat(2, inRange(1, true, 3, false))</pre>
+     *
+     * @param from the lower bound of the range
+     * @param fromInclusive true if the lower bound itself matches
+     * @param to the upper bound of the range
+     * @param toInclusive true if the upper bound itself matches
+     */
+    public static <T extends Comparable<T>> Matcher<T> inRange(T from, boolean fromInclusive, T to, boolean toInclusive) {
+        return ComparatorMatcherBuilder.<T>usingNaturalOrdering().inRange(from, fromInclusive, to, toInclusive);
+    }
 }
@@ -5,8 +5,6 @@ import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
 
-import java.util.regex.Pattern;
-
 import static org.hamcrest.core.AnyOf.anyOf;
 import static org.hamcrest.core.IsNull.nullValue;
 
@@ -18,13 +16,23 @@ public final class IsBlankString extends TypeSafeMatcher<String> {
     @SuppressWarnings("unchecked")
     private static final Matcher<String> NULL_OR_BLANK_INSTANCE = anyOf(nullValue(), BLANK_INSTANCE);
 
-    private static final Pattern REGEX_WHITESPACE = Pattern.compile("\\s*");
-
     private IsBlankString() { }
 
     @Override
     public boolean matchesSafely(String item) {
-        return REGEX_WHITESPACE.matcher(item).matches();
+        for (int i = 0; i < item.length(); i++) {
+            if (!isRegexWhitespace(item.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The characters matched by the regular expression class <code>\s</code>.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\013' || c == '\f' || c == '\r';
     }
 
     @Override
@@ -15,17 +15,51 @@ public class IsEqualIgnoringWhiteSpace extends TypeSafeMatcher<String> {
     //       String, StringBuffer, StringBuilder, CharBuffer, etc (joe).
 
     private final String string;
+    private final String strippedString;
 
     public IsEqualIgnoringWhiteSpace(String string) {
         if (string == null) {
             throw new IllegalArgumentException("Non-null value required by IsEqualIgnoringCase()");
         }
         this.string = string;
+        this.strippedString = stripSpace(string);
     }
 
+    /**
+     * Walks the examined string against the pre-stripped expected string, collapsing
+     * whitespace as it goes, so that no intermediate strings are built and the scan
+     * stops at the first difference.
+     */
     @Override
     public boolean matchesSafely(String item) {
-        return stripSpace(string).equalsIgnoreCase(stripSpace(item));
+        int start = 0;
+        int end = item.length();
+        while (start < end && isTrimmable(item.charAt(start))) {
+            start++;
+        }
+        while (end > start && isTrimmable(item.charAt(end - 1))) {
+            end--;
+        }
+
+        final int expectedLength = strippedString.length();
+        int j = 0;
+        int i = start;
+        while (i < end) {
+            if (j == expectedLength) {
+                return false;
+            }
+            char c = item.charAt(i++);
+            if (isWhitespace(c)) {
+                while (i < end && isWhitespace(item.charAt(i))) {
+                    i++;
+                }
+                c = ' ';
+            }
+            if (!equalIgnoringCase(c, strippedString.charAt(j++))) {
+                return false;
+            }
+        }
+        return j == expectedLength;
     }
     
     @Override
@@ -58,6 +92,25 @@ public class IsEqualIgnoringWhiteSpace extends TypeSafeMatcher<String> {
         return result.toString().trim();
     }
 
+    /**
+     * Characters that are dropped from either end of a string by {@link #stripSpace(String)}.
+     */
+    private static boolean isTrimmable(char c) {
+        return c <= ' ' || isWhitespace(c);
+    }
+
+    /**
+     * Compares two characters the same way as {@link String#equalsIgnoreCase(String)}.
+     */
+    private static boolean equalIgnoringCase(char c1, char c2) {
+        if (c1 == c2) {
+            return true;
+        }
+        final char u1 = Character.toUpperCase(c1);
+        final char u2 = Character.toUpperCase(c2);
+        return u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2);
+    }
+
     /**
      * Creates a matcher of {@link String} that matches when the examined string is equal to
      * the specified expectedString, when whitespace differences are (mostly) ignored.  To be
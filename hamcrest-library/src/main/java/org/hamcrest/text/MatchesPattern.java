@@ -8,19 +8,36 @@ import java.util.regex.Pattern;
 
 public class MatchesPattern extends TypeSafeMatcher<String> {
     private final Pattern pattern;
+    private final Mode mode;
+    private final ThreadLocal<java.util.regex.Matcher> regexMatcher = new ThreadLocal<java.util.regex.Matcher>() {
+        @Override
+        protected java.util.regex.Matcher initialValue() {
+            return pattern.matcher("");
+        }
+    };
 
     public MatchesPattern(Pattern pattern) {
+        this(pattern, Mode.MATCHES);
+    }
+
+    private MatchesPattern(Pattern pattern, Mode mode) {
         this.pattern = pattern;
+        this.mode = mode;
     }
 
     @Override
     protected boolean matchesSafely(String item) {
-        return pattern.matcher(item).matches();
+        final java.util.regex.Matcher matcher = regexMatcher.get().reset(item);
+        try {
+            return mode.test(matcher);
+        } finally {
+            matcher.reset("");
+        }
     }
 
     @Override
     public void describeTo(Description description) {
-        description.appendText("a string matching the pattern '" + pattern + "'");
+        description.appendText("a string " + mode.relationship + " the pattern '" + pattern + "'");
     }
 
     /**
@@ -36,6 +53,68 @@ public class MatchesPattern extends TypeSafeMatcher<String> {
      * exactly matches the given regular expression, treated as a {@link java.util.regex.Pattern}.
      */
     public static Matcher<String> matchesPattern(String regex) {
-        return new MatchesPattern(Pattern.compile(regex));
+        return new MatchesPattern(PatternCache.compile(regex, 0));
+    }
+
+    /**
+     * Creates a matcher of {@link java.lang.String} that matches when the given
+     * {@link java.util.regex.Pattern} can be found anywhere within the examined string.
+     * For example:
+     * <pre>assertThat("myfoobar", containsPattern(Pattern.compile("o+b")))</pre>
+     */
+    public static Matcher<String> containsPattern(Pattern pattern) {
+        return new MatchesPattern(pattern, Mode.FIND);
+    }
+
+    /**
+     * Creates a matcher of {@link java.lang.String} that matches when the given regular
+     * expression, treated as a {@link java.util.regex.Pattern}, can be found anywhere within
+     * the examined string.
+     * For example:
+     * <pre>assertThat("myfoobar", containsPattern("o+b"))</pre>
+     */
+    public static Matcher<String> containsPattern(String regex) {
+        return containsPattern(PatternCache.compile(regex, 0));
+    }
+
+    /**
+     * Creates a matcher of {@link java.lang.String} that matches when the start of the
+     * examined string matches the given {@link java.util.regex.Pattern}.
+     * For example:
+     * <pre>assertThat("myfoobar", startsWithPattern(Pattern.compile("m[xy]")))</pre>
+     */
+    public static Matcher<String> startsWithPattern(Pattern pattern) {
+        return new MatchesPattern(pattern, Mode.LOOKING_AT);
+    }
+
+    /**
+     * Creates a matcher of {@link java.lang.String} that matches when the start of the
+     * examined string matches the given regular expression, treated as a
+     * {@link java.util.regex.Pattern}.
+     * For example:
+     * <pre>assertThat("myfoobar", startsWithPattern("m[xy]"))</pre>
+     */
+    public static Matcher<String> startsWithPattern(String regex) {
+        return startsWithPattern(PatternCache.compile(regex, 0));
+    }
+
+    private enum Mode {
+        MATCHES("matching") {
+            @Override boolean test(java.util.regex.Matcher matcher) { return matcher.matches(); }
+        },
+        FIND("containing") {
+            @Override boolean test(java.util.regex.Matcher matcher) { return matcher.find(); }
+        },
+        LOOKING_AT("starting with") {
+            @Override boolean test(java.util.regex.Matcher matcher) { return matcher.lookingAt(); }
+        };
+
+        final String relationship;
+
+        Mode(String relationship) {
+            this.relationship = relationship;
+        }
+
+        abstract boolean test(java.util.regex.Matcher matcher);
     }
 }
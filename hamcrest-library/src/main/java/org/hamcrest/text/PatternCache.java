@@ -0,0 +1,68 @@
+package org.hamcrest.text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded, least-recently-used cache of compiled {@link Pattern}s, keyed by
+ * regular expression and compilation flags, so that repeatedly creating a
+ * matcher for the same expression does not recompile it.
+ */
+final class PatternCache {
+    static final int MAX_ENTRIES = 256;
+
+    private static final Map<Key, Pattern> CACHE = new LinkedHashMap<Key, Pattern>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Pattern> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private PatternCache() { }
+
+    static Pattern compile(String regex, int flags) {
+        final Key key = new Key(regex, flags);
+        synchronized (CACHE) {
+            final Pattern cached = CACHE.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final Pattern compiled = Pattern.compile(regex, flags);
+        synchronized (CACHE) {
+            CACHE.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    static int size() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    private static final class Key {
+        private final String regex;
+        private final int flags;
+
+        Key(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return flags == other.flags && regex.equals(other.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * regex.hashCode() + flags;
+        }
+    }
+}
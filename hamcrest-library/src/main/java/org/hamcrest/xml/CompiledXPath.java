@@ -0,0 +1,105 @@
+package org.hamcrest.xml;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An XPath expression, compiled at most once per thread. {@link XPathFactory} lookups are
+ * expensive and neither factories nor compiled {@link XPathExpression}s are thread-safe, so each
+ * thread keeps its own factory and its own instance of every expression it evaluates.
+ * Expressions are shared through a bounded cache keyed by expression and namespace context.
+ */
+final class CompiledXPath {
+    static final int MAX_ENTRIES = 256;
+
+    private static final ThreadLocal<XPathFactory> FACTORY = new ThreadLocal<XPathFactory>() {
+        @Override
+        protected XPathFactory initialValue() {
+            return XPathFactory.newInstance();
+        }
+    };
+
+    private static final Map<Key, CompiledXPath> CACHE = new LinkedHashMap<Key, CompiledXPath>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CompiledXPath> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private final String expression;
+    private final NamespaceContext namespaceContext;
+    private final ThreadLocal<XPathExpression> perThread = new ThreadLocal<XPathExpression>();
+
+    private CompiledXPath(String expression, NamespaceContext namespaceContext) {
+        this.expression = expression;
+        this.namespaceContext = namespaceContext;
+    }
+
+    /**
+     * Looks up, or compiles, the expression. It is compiled straight away on the calling
+     * thread, so that invalid expressions are reported here.
+     *
+     * @throws XPathExpressionException if the expression is invalid
+     */
+    static CompiledXPath compile(String expression, NamespaceContext namespaceContext) throws XPathExpressionException {
+        final Key key = new Key(expression, namespaceContext);
+        CompiledXPath compiled;
+        synchronized (CACHE) {
+            compiled = CACHE.get(key);
+        }
+        if (compiled == null) {
+            compiled = new CompiledXPath(expression, namespaceContext);
+            compiled.get();
+            synchronized (CACHE) {
+                CACHE.put(key, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * @return this thread's instance of the compiled expression
+     */
+    XPathExpression get() throws XPathExpressionException {
+        XPathExpression compiled = perThread.get();
+        if (compiled == null) {
+            final XPath xPath = FACTORY.get().newXPath();
+            if (namespaceContext != null) {
+                xPath.setNamespaceContext(namespaceContext);
+            }
+            compiled = xPath.compile(expression);
+            perThread.set(compiled);
+        }
+        return compiled;
+    }
+
+    private static final class Key {
+        private final String expression;
+        private final NamespaceContext namespaceContext;
+
+        Key(String expression, NamespaceContext namespaceContext) {
+            this.expression = expression;
+            this.namespaceContext = namespaceContext;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return expression.equals(other.expression)
+                && (namespaceContext == null ? other.namespaceContext == null : namespaceContext.equals(other.namespaceContext));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * expression.hashCode() + (namespaceContext == null ? 0 : namespaceContext.hashCode());
+        }
+    }
+}
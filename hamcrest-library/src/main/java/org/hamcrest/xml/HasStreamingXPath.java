@@ -0,0 +1,342 @@
+package org.hamcrest.xml;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.core.IsAnything;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static org.hamcrest.xml.HasXPath.NO_NAMESPACE_CONTEXT;
+
+/**
+ * Applies a Matcher to the value at an XPath in an XML document that has not been parsed yet,
+ * read from a {@link Source}, an {@link InputStream} or a {@link Path}. Expressions within the
+ * streamable subset (child and descendant steps with attribute and text predicates) are evaluated
+ * over StAX events, holding no more than the open element path and the text of the selected
+ * element, and stopping as soon as the answer is known. Any other
+ * expression, or a {@link DOMSource}, is evaluated as {@link HasXPath} would.
+ *
+ * @param <T> the type of the examined document
+ */
+public final class HasStreamingXPath<T> extends BaseMatcher<T> {
+    private static final IsAnything<String> WITH_ANY_CONTENT = new IsAnything<String>("");
+
+    private static final ThreadLocal<XMLInputFactory> STAX = new ThreadLocal<XMLInputFactory>() {
+        @Override
+        protected XMLInputFactory initialValue() {
+            final XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+            factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            return factory;
+        }
+    };
+
+    // XMLConstants.ACCESS_EXTERNAL_DTD and ACCESS_EXTERNAL_STYLESHEET, which are only in Java 7 update 40 and later
+    private static final String ACCESS_EXTERNAL_DTD = "http://javax.xml.XMLConstants/property/accessExternalDTD";
+    private static final String ACCESS_EXTERNAL_STYLESHEET = "http://javax.xml.XMLConstants/property/accessExternalStylesheet";
+
+    private static final ThreadLocal<TransformerFactory> TRANSFORMER = new ThreadLocal<TransformerFactory>() {
+        @Override
+        protected TransformerFactory initialValue() {
+            // as with the StAX reader, documents must not pull in external DTDs or entities
+            final TransformerFactory factory = TransformerFactory.newInstance();
+            try {
+                factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            } catch (TransformerConfigurationException e) {
+                // not supported by this implementation; the attributes below still apply
+            }
+            try {
+                factory.setAttribute(ACCESS_EXTERNAL_DTD, "");
+                factory.setAttribute(ACCESS_EXTERNAL_STYLESHEET, "");
+            } catch (IllegalArgumentException e) {
+                // an implementation older than JAXP 1.5 relies on secure processing alone
+            }
+            return factory;
+        }
+    };
+
+    private final Class<T> documentType;
+    private final Input<? super T> input;
+    private final String xpathString;
+    private final Matcher<String> valueMatcher;
+    private final boolean needValue;
+    private final StreamingXPath streamingXPath;
+    private final HasXPath domMatcher;
+    private final Map<Object, Outcome> unrepeatableMismatches = Collections.synchronizedMap(new WeakHashMap<Object, Outcome>());
+
+    private HasStreamingXPath(Class<T> documentType, Input<? super T> input, String xPathExpression,
+                              NamespaceContext namespaceContext, Matcher<String> valueMatcher, boolean needValue) {
+        this.documentType = documentType;
+        this.input = input;
+        this.xpathString = xPathExpression;
+        this.valueMatcher = valueMatcher;
+        this.needValue = needValue;
+        this.domMatcher = needValue
+                ? (HasXPath) HasXPath.hasXPath(xPathExpression, namespaceContext, valueMatcher)
+                : (HasXPath) HasXPath.hasXPath(xPathExpression, namespaceContext);
+        this.streamingXPath = StreamingXPath.parse(xPathExpression, namespaceContext);
+    }
+
+    /**
+     * @return <code>true</code> if the expression is evaluated over StAX events rather than a DOM
+     */
+    public boolean isStreaming() {
+        return streamingXPath != null;
+    }
+
+    @Override
+    public boolean matches(Object item) {
+        if (!documentType.isInstance(item)) {
+            return false;
+        }
+        final T document = documentType.cast(item);
+        final Outcome outcome = evaluate(document);
+        if (!outcome.matched && !input.canBeReadAgain(document)) {
+            unrepeatableMismatches.put(item, outcome);
+        }
+        return outcome.matched;
+    }
+
+    /**
+     * Documents read from a stream can only be read once, so their mismatch is described from
+     * the outcome of the preceding {@link #matches(Object)} call, which is kept until the stream
+     * is garbage collected. Any other document is read again.
+     */
+    @Override
+    public void describeMismatch(Object item, Description mismatch) {
+        if (!documentType.isInstance(item)) {
+            super.describeMismatch(item, mismatch);
+            return;
+        }
+        Outcome outcome = unrepeatableMismatches.get(item);
+        if (outcome == null) {
+            outcome = evaluate(documentType.cast(item));
+        }
+        if (outcome.error != null) {
+            mismatch.appendText(outcome.error);
+        } else if (outcome.node != null) {
+            domMatcher.describeMismatch(outcome.node, mismatch);
+        } else if (outcome.value == null) {
+            mismatch.appendText("xpath returned no results.");
+        } else {
+            valueMatcher.describeMismatch(outcome.value, mismatch);
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an XML document with XPath ").appendText(xpathString);
+        if (needValue) {
+            description.appendText(" ").appendDescriptionOf(valueMatcher);
+        }
+    }
+
+    private Outcome evaluate(T item) {
+        try {
+            return input.evaluate(this, item);
+        } catch (IOException | XMLStreamException | TransformerException e) {
+            return new Outcome(false, null, null, e.getMessage());
+        }
+    }
+
+    private Outcome evaluateSource(Source source) throws XMLStreamException, TransformerException {
+        if (source instanceof DOMSource) {
+            return domOutcome(((DOMSource) source).getNode());
+        }
+        if (streamingXPath != null && source instanceof StreamSource) {
+            final XMLStreamReader reader = STAX.get().createXMLStreamReader(source);
+            try {
+                String value = streamingXPath.evaluate(reader, needValue);
+                if (value == null && needValue) {
+                    value = "";
+                }
+                return new Outcome(value != null && valueMatcher.matches(value), value, null, null);
+            } finally {
+                reader.close();
+            }
+        }
+        final DOMResult result = new DOMResult();
+        TRANSFORMER.get().newTransformer().transform(source, result);
+        return domOutcome(result.getNode());
+    }
+
+    private Outcome domOutcome(Node node) {
+        return new Outcome(domMatcher.matches(node), null, node, null);
+    }
+
+    private static final class Outcome {
+        final boolean matched;
+        final String value;
+        final Node node;
+        final String error;
+
+        Outcome(boolean matched, String value, Node node, String error) {
+            this.matched = matched;
+            this.value = value;
+            this.node = node;
+            this.error = error;
+        }
+    }
+
+    private interface Input<T> {
+        Outcome evaluate(HasStreamingXPath<?> matcher, T item) throws IOException, XMLStreamException, TransformerException;
+
+        /**
+         * @return <code>false</code> if the document is consumed by reading it
+         */
+        boolean canBeReadAgain(T item);
+    }
+
+    private static final Input<Source> SOURCE = new Input<Source>() {
+        @Override
+        public Outcome evaluate(HasStreamingXPath<?> matcher, Source item) throws XMLStreamException, TransformerException {
+            return matcher.evaluateSource(item);
+        }
+
+        @Override
+        public boolean canBeReadAgain(Source item) {
+            if (item instanceof DOMSource) {
+                return true;
+            }
+            if (item instanceof StreamSource) {
+                final StreamSource source = (StreamSource) item;
+                return source.getInputStream() == null && source.getReader() == null;
+            }
+            if (item instanceof SAXSource) {
+                final InputSource source = ((SAXSource) item).getInputSource();
+                return source == null || (source.getByteStream() == null && source.getCharacterStream() == null);
+            }
+            return false;
+        }
+    };
+
+    private static final Input<InputStream> STREAM = new Input<InputStream>() {
+        @Override
+        public Outcome evaluate(HasStreamingXPath<?> matcher, InputStream item) throws XMLStreamException, TransformerException {
+            return matcher.evaluateSource(new StreamSource(item));
+        }
+
+        @Override
+        public boolean canBeReadAgain(InputStream item) {
+            return false;
+        }
+    };
+
+    private static final Input<Path> FILE = new Input<Path>() {
+        @Override
+        public Outcome evaluate(HasStreamingXPath<?> matcher, Path item) throws IOException, XMLStreamException, TransformerException {
+            try (InputStream in = Files.newInputStream(item)) {
+                return matcher.evaluateSource(new StreamSource(in, item.toUri().toString()));
+            }
+        }
+
+        @Override
+        public boolean canBeReadAgain(Path item) {
+            return true;
+        }
+    };
+
+    /**
+     * Creates a matcher of {@link javax.xml.transform.Source}s that matches when the examined document
+     * has a value at the specified <code>xPath</code>, within the specified <code>namespaceContext</code>,
+     * that satisfies the specified <code>valueMatcher</code>. Stream sources are read with StAX if the
+     * expression is streamable.
+     * For example:
+     * <pre>assertThat(new StreamSource(in), hasXPathInSource("//order[@id='42']/@status", myNs, equalTo("paid")))</pre>
+     */
+    public static Matcher<Source> hasXPathInSource(String xPath, NamespaceContext namespaceContext, Matcher<String> valueMatcher) {
+        return new HasStreamingXPath<Source>(Source.class, SOURCE, xPath, namespaceContext, valueMatcher, true);
+    }
+
+    /**
+     * Creates a matcher of {@link javax.xml.transform.Source}s that matches when the examined document
+     * has a value at the specified <code>xPath</code> that satisfies the specified <code>valueMatcher</code>.
+     */
+    public static Matcher<Source> hasXPathInSource(String xPath, Matcher<String> valueMatcher) {
+        return hasXPathInSource(xPath, NO_NAMESPACE_CONTEXT, valueMatcher);
+    }
+
+    /**
+     * Creates a matcher of {@link javax.xml.transform.Source}s that matches when the examined document
+     * contains a node at the specified <code>xPath</code>, with any content.
+     */
+    public static Matcher<Source> hasXPathInSource(String xPath) {
+        return new HasStreamingXPath<Source>(Source.class, SOURCE, xPath, NO_NAMESPACE_CONTEXT, WITH_ANY_CONTENT, false);
+    }
+
+    /**
+     * Creates a matcher of {@link java.io.InputStream}s that matches when the XML document read from the
+     * stream has a value at the specified <code>xPath</code>, within the specified
+     * <code>namespaceContext</code>, that satisfies the specified <code>valueMatcher</code>. The stream
+     * is read only as far as needed, and is not closed.
+     */
+    public static Matcher<InputStream> hasXPathInStream(String xPath, NamespaceContext namespaceContext, Matcher<String> valueMatcher) {
+        return new HasStreamingXPath<InputStream>(InputStream.class, STREAM, xPath, namespaceContext, valueMatcher, true);
+    }
+
+    /**
+     * Creates a matcher of {@link java.io.InputStream}s that matches when the XML document read from the
+     * stream has a value at the specified <code>xPath</code> that satisfies the specified <code>valueMatcher</code>.
+     */
+    public static Matcher<InputStream> hasXPathInStream(String xPath, Matcher<String> valueMatcher) {
+        return hasXPathInStream(xPath, NO_NAMESPACE_CONTEXT, valueMatcher);
+    }
+
+    /**
+     * Creates a matcher of {@link java.io.InputStream}s that matches when the XML document read from the
+     * stream contains a node at the specified <code>xPath</code>, with any content.
+     */
+    public static Matcher<InputStream> hasXPathInStream(String xPath) {
+        return new HasStreamingXPath<InputStream>(InputStream.class, STREAM, xPath, NO_NAMESPACE_CONTEXT, WITH_ANY_CONTENT, false);
+    }
+
+    /**
+     * Creates a matcher of {@link java.nio.file.Path}s that matches when the XML file at the examined
+     * path has a value at the specified <code>xPath</code>, within the specified
+     * <code>namespaceContext</code>, that satisfies the specified <code>valueMatcher</code>.
+     * For example:
+     * <pre>assertThat(Paths.get("export.xml"), hasXPathInFile("/export/header/@version", equalTo("3")))</pre>
+     */
+    public static Matcher<Path> hasXPathInFile(String xPath, NamespaceContext namespaceContext, Matcher<String> valueMatcher) {
+        return new HasStreamingXPath<Path>(Path.class, FILE, xPath, namespaceContext, valueMatcher, true);
+    }
+
+    /**
+     * Creates a matcher of {@link java.nio.file.Path}s that matches when the XML file at the examined
+     * path has a value at the specified <code>xPath</code> that satisfies the specified <code>valueMatcher</code>.
+     */
+    public static Matcher<Path> hasXPathInFile(String xPath, Matcher<String> valueMatcher) {
+        return hasXPathInFile(xPath, NO_NAMESPACE_CONTEXT, valueMatcher);
+    }
+
+    /**
+     * Creates a matcher of {@link java.nio.file.Path}s that matches when the XML file at the examined
+     * path contains a node at the specified <code>xPath</code>, with any content.
+     */
+    public static Matcher<Path> hasXPathInFile(String xPath) {
+        return new HasStreamingXPath<Path>(Path.class, FILE, xPath, NO_NAMESPACE_CONTEXT, WITH_ANY_CONTENT, false);
+    }
+}
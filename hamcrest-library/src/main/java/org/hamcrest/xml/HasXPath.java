@@ -9,7 +9,8 @@ import org.w3c.dom.Node;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
-import javax.xml.xpath.*;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
 
 import static javax.xml.xpath.XPathConstants.STRING;
 import static org.hamcrest.Condition.matched;
@@ -26,7 +27,7 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
     private static final IsAnything<String> WITH_ANY_CONTENT = new IsAnything<String>("");
     private static final Condition.Step<Object,String> NODE_EXISTS = nodeExists();
     private final Matcher<String> valueMatcher;
-    private final XPathExpression compiledXPath;
+    private final CompiledXPath compiledXPath;
     private final String xpathString;
     private final QName evaluationMode;
 
@@ -73,7 +74,7 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
 
     private Condition<Object> evaluated(Node item, Description mismatch) {
         try {
-            return matched(compiledXPath.evaluate(item, evaluationMode), mismatch);
+            return matched(compiledXPath.get().evaluate(item, evaluationMode), mismatch);
         } catch (XPathExpressionException e) {
             mismatch.appendText(e.getMessage());
         }
@@ -93,13 +94,9 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
         };
     }
 
-    private static XPathExpression compiledXPath(String xPathExpression, NamespaceContext namespaceContext) {
+    private static CompiledXPath compiledXPath(String xPathExpression, NamespaceContext namespaceContext) {
         try {
-            final XPath xPath = XPathFactory.newInstance().newXPath();
-            if (namespaceContext != null) {
-                xPath.setNamespaceContext(namespaceContext);
-            }
-            return xPath.compile(xPathExpression);
+            return CompiledXPath.compile(xPathExpression, namespaceContext);
         } catch (XPathExpressionException e) {
             throw new IllegalArgumentException("Invalid XPath : " + xPathExpression, e);
         }
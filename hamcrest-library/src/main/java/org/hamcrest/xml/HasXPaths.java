@@ -0,0 +1,273 @@
+package org.hamcrest.xml;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Node;
+
+import javax.xml.namespace.NamespaceContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.xml.HasXPath.NO_NAMESPACE_CONTEXT;
+
+/**
+ * Applies many XPath and value Matcher pairs to the same XML Node tree at once. Expressions in
+ * the streamable subset supported by {@link HasStreamingXPath} are all answered by a single walk
+ * of the tree, which stops once every one of them is known; the rest are evaluated one by one,
+ * as {@link HasXPath} would. Every failing XPath is reported in the one mismatch description.
+ */
+public final class HasXPaths extends TypeSafeDiagnosingMatcher<Node> {
+    private final NamespaceContext namespaceContext;
+    private final List<Entry> entries;
+
+    private HasXPaths(NamespaceContext namespaceContext, List<Entry> entries) {
+        super(Node.class);
+        this.namespaceContext = namespaceContext;
+        this.entries = entries;
+    }
+
+    /**
+     * @return a matcher that also requires a value at the specified <code>xPath</code> that
+     *         satisfies the specified <code>valueMatcher</code>
+     */
+    public HasXPaths and(String xPath, Matcher<String> valueMatcher) {
+        return with(new Entry(xPath, namespaceContext, valueMatcher));
+    }
+
+    /**
+     * @return a matcher that also requires a node at the specified <code>xPath</code>, with any content
+     */
+    public HasXPaths and(String xPath) {
+        return with(new Entry(xPath, namespaceContext, null));
+    }
+
+    private HasXPaths with(Entry entry) {
+        final List<Entry> extended = new ArrayList<Entry>(entries);
+        extended.add(entry);
+        return new HasXPaths(namespaceContext, Collections.unmodifiableList(extended));
+    }
+
+    @Override
+    protected boolean matchesSafely(Node item, Description mismatch) {
+        final String[] streamed = streamedValues(item);
+        final List<String> failures = new ArrayList<String>();
+        for (int i = 0; i < entries.size(); i++) {
+            final Entry entry = entries.get(i);
+            final StringDescription failure = new StringDescription();
+            final boolean matched = entry.streamingXPath != null && streamed != null
+                    ? entry.matchesValue(streamed[i], failure)
+                    : entry.matchesNode(item, failure);
+            if (!matched) {
+                failures.add(entry.xPath + " " + failure);
+            }
+        }
+        if (failures.isEmpty()) {
+            return true;
+        }
+        mismatch.appendText(failures.size() + " of " + entries.size() + " XPaths failed:");
+        for (String failure : failures) {
+            mismatch.appendText("\n          ").appendText(failure);
+        }
+        return false;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an XML document with");
+        String separator = " XPath ";
+        for (Entry entry : entries) {
+            description.appendText(separator).appendText(entry.xPath);
+            if (entry.valueMatcher != null) {
+                description.appendText(" ").appendDescriptionOf(entry.valueMatcher);
+            }
+            separator = ", XPath ";
+        }
+    }
+
+    /**
+     * Walks the document once, feeding every streamable expression at the same time.
+     *
+     * @return the value of each streamable entry, by index, or <code>null</code> if the node is
+     *         not part of a document, in which case every entry is evaluated as a DOM XPath
+     */
+    private String[] streamedValues(Node item) {
+        Node root = item;
+        while (root.getParentNode() != null) {
+            root = root.getParentNode();
+        }
+        if (root.getNodeType() != Node.DOCUMENT_NODE) {
+            return null;
+        }
+        final List<StreamingXPath.Evaluation> evaluations = new ArrayList<StreamingXPath.Evaluation>();
+        for (Entry entry : entries) {
+            evaluations.add(entry.streamingXPath == null ? null : entry.streamingXPath.start(entry.valueMatcher != null));
+        }
+        new DomWalk(evaluations).walk(root);
+
+        final String[] values = new String[entries.size()];
+        for (int i = 0; i < values.length; i++) {
+            if (evaluations.get(i) != null) {
+                values[i] = evaluations.get(i).result();
+            }
+        }
+        return values;
+    }
+
+    private static final class Entry {
+        final String xPath;
+        final Matcher<String> valueMatcher;
+        final StreamingXPath streamingXPath;
+        final HasXPath domMatcher;
+
+        Entry(String xPath, NamespaceContext namespaceContext, Matcher<String> valueMatcher) {
+            this.xPath = xPath;
+            this.valueMatcher = valueMatcher;
+            this.domMatcher = valueMatcher == null
+                    ? (HasXPath) HasXPath.hasXPath(xPath, namespaceContext)
+                    : (HasXPath) HasXPath.hasXPath(xPath, namespaceContext, valueMatcher);
+            this.streamingXPath = StreamingXPath.parse(xPath, namespaceContext);
+        }
+
+        boolean matchesValue(String value, Description mismatch) {
+            if (valueMatcher == null) {
+                if (value == null) {
+                    mismatch.appendText("xpath returned no results.");
+                    return false;
+                }
+                return true;
+            }
+            final String actual = value == null ? "" : value;
+            if (!valueMatcher.matches(actual)) {
+                valueMatcher.describeMismatch(actual, mismatch);
+                return false;
+            }
+            return true;
+        }
+
+        boolean matchesNode(Node item, Description mismatch) {
+            if (!domMatcher.matches(item)) {
+                domMatcher.describeMismatch(item, mismatch);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Replays a DOM tree as element and coalesced text events, until every evaluation is done.
+     */
+    private static final class DomWalk implements StreamingXPath.Element {
+        private final List<StreamingXPath.Evaluation> evaluations;
+        private int remaining = 0;
+        private org.w3c.dom.Element current;
+
+        DomWalk(List<StreamingXPath.Evaluation> evaluations) {
+            this.evaluations = evaluations;
+            for (StreamingXPath.Evaluation evaluation : evaluations) {
+                if (evaluation != null) {
+                    remaining++;
+                }
+            }
+        }
+
+        void walk(Node parent) {
+            final StringBuilder text = new StringBuilder();
+            for (Node child = parent.getFirstChild(); child != null && remaining > 0; child = child.getNextSibling()) {
+                switch (child.getNodeType()) {
+                    case Node.TEXT_NODE:
+                    case Node.CDATA_SECTION_NODE:
+                        text.append(child.getNodeValue());
+                        break;
+                    case Node.ELEMENT_NODE:
+                        flushText(text);
+                        current = (org.w3c.dom.Element) child;
+                        for (StreamingXPath.Evaluation evaluation : evaluations) {
+                            if (evaluation != null && !evaluation.isDone()) {
+                                evaluation.startElement(this);
+                            }
+                        }
+                        walk(child);
+                        for (StreamingXPath.Evaluation evaluation : evaluations) {
+                            if (evaluation != null && !evaluation.isDone()) {
+                                evaluation.endElement();
+                            }
+                        }
+                        countDone();
+                        break;
+                    default:
+                        flushText(text);
+                        break;
+                }
+            }
+            flushText(text);
+        }
+
+        private void flushText(StringBuilder text) {
+            if (text.length() > 0) {
+                final String chars = text.toString();
+                for (StreamingXPath.Evaluation evaluation : evaluations) {
+                    if (evaluation != null && !evaluation.isDone()) {
+                        evaluation.text(chars);
+                    }
+                }
+                text.setLength(0);
+            }
+        }
+
+        private void countDone() {
+            int notDone = 0;
+            for (StreamingXPath.Evaluation evaluation : evaluations) {
+                if (evaluation != null && !evaluation.isDone()) {
+                    notDone++;
+                }
+            }
+            remaining = notDone;
+        }
+
+        @Override
+        public String namespaceUri() {
+            return current.getNamespaceURI();
+        }
+
+        @Override
+        public String localName() {
+            return current.getLocalName() != null ? current.getLocalName() : current.getNodeName();
+        }
+
+        @Override
+        public String attribute(String namespaceUri, String localName) {
+            final Attr attribute = current.getLocalName() != null
+                    ? current.getAttributeNodeNS(namespaceUri.isEmpty() ? null : namespaceUri, localName)
+                    : current.getAttributeNode(localName);
+            return attribute == null ? null : attribute.getValue();
+        }
+    }
+
+    /**
+     * Creates a matcher of {@link org.w3c.dom.Node}s that matches when the examined node satisfies
+     * every XPath added to it with {@link #and(String, Matcher)} and {@link #and(String)}, resolving
+     * namespace prefixes with the specified <code>namespaceContext</code>.
+     * For example:
+     * <pre>assertThat(xml, hasXPaths(myNs).and("/root/@type", equalTo("food")).and("//cheese:milk"))</pre>
+     *
+     * @param namespaceContext
+     *     the namespace for matching nodes
+     */
+    public static HasXPaths hasXPaths(NamespaceContext namespaceContext) {
+        return new HasXPaths(namespaceContext, Collections.<Entry>emptyList());
+    }
+
+    /**
+     * Creates a matcher of {@link org.w3c.dom.Node}s that matches when the examined node satisfies
+     * every XPath added to it with {@link #and(String, Matcher)} and {@link #and(String)}.
+     * For example:
+     * <pre>assertThat(xml, hasXPaths().and("/root/@type", equalTo("food")).and("//something[@id='b']"))</pre>
+     */
+    public static HasXPaths hasXPaths() {
+        return hasXPaths(NO_NAMESPACE_CONTEXT);
+    }
+}
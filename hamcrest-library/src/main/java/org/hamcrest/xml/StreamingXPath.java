@@ -0,0 +1,521 @@
+package org.hamcrest.xml;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Evaluates the subset of XPath that can be answered in a single forward pass over StAX events,
+ * holding only the open element path and the text of candidate nodes in memory. Supported
+ * expressions are absolute location paths made of child (<code>/</code>) and descendant
+ * (<code>//</code>) steps, with element names or <code>*</code>, attribute predicates
+ * (<code>[@id]</code>, <code>[@id='a']</code>), a text predicate (<code>[text()='a']</code>) on the
+ * last step only, and optionally ending in <code>/@attribute</code> or <code>/text()</code>.
+ */
+final class StreamingXPath {
+    private static final int MAX_STEPS = 63;
+
+    private enum Terminal { ELEMENT, ATTRIBUTE, TEXT }
+
+    private final Step[] steps;
+    private final long descendantSteps;
+    private final Terminal terminal;
+    private final Name terminalAttribute;
+
+    private StreamingXPath(List<Step> steps, Terminal terminal, Name terminalAttribute) {
+        this.steps = steps.toArray(new Step[steps.size()]);
+        long descendants = 0;
+        for (int k = 0; k < this.steps.length; k++) {
+            if (this.steps[k].descendant) {
+                descendants |= 1L << k;
+            }
+        }
+        this.descendantSteps = descendants;
+        this.terminal = terminal;
+        this.terminalAttribute = terminalAttribute;
+    }
+
+    /**
+     * @return the streamable form of the expression, or <code>null</code> if it uses anything
+     *         outside the supported subset
+     */
+    static StreamingXPath parse(String expression, NamespaceContext namespaceContext) {
+        try {
+            return new Parser(expression, namespaceContext).parse();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads events until the string value of the first selected node, in document order, is known.
+     *
+     * @param needValue <code>false</code> if only the existence of a node matters, in which case
+     *                  the scan may stop at the start of the first selected element
+     * @return the string value, or <code>null</code> if no node is selected
+     */
+    String evaluate(final XMLStreamReader reader, boolean needValue) throws XMLStreamException {
+        final Evaluation evaluation = new Evaluation(needValue);
+        final Element element = new Element() {
+            @Override public String namespaceUri() { return reader.getNamespaceURI(); }
+            @Override public String localName() { return reader.getLocalName(); }
+            @Override public String attribute(String namespaceUri, String localName) {
+                for (int i = 0; i < reader.getAttributeCount(); i++) {
+                    if (localName.equals(reader.getAttributeLocalName(i))
+                            && namespaceUri.equals(nonNull(reader.getAttributeNamespace(i)))) {
+                        return reader.getAttributeValue(i);
+                    }
+                }
+                return null;
+            }
+        };
+        while (!evaluation.isDone() && reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    evaluation.startElement(element);
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    evaluation.text(reader.getText());
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    evaluation.endElement();
+                    break;
+                default:
+                    break;
+            }
+        }
+        return evaluation.result();
+    }
+
+    /**
+     * Starts an evaluation that is driven by the caller, one document event at a time.
+     */
+    Evaluation start(boolean needValue) {
+        return new Evaluation(needValue);
+    }
+
+    /**
+     * The element at a start element event.
+     */
+    interface Element {
+        String namespaceUri();
+        String localName();
+
+        /**
+         * @return the value of the attribute, or <code>null</code> if there is no such attribute
+         */
+        String attribute(String namespaceUri, String localName);
+    }
+
+    /**
+     * The state of one evaluation over a sequence of document events. Text events must be
+     * coalesced, so that adjacent text and CDATA form a single event, as in the XPath data model.
+     * <p>
+     * Candidates wait in the order of the node they would select: the element or its attribute,
+     * at the element's start, or its first text node. Only the first candidate that is sure to
+     * match, and the unresolved candidates before it, are kept; an unresolved candidate is
+     * always an open element, so at most one candidate per level of nesting is held. The text of
+     * elements whose string value is needed is collected once, in a buffer shared by all of them.
+     */
+    final class Evaluation {
+        private final boolean needValue;
+        private final Deque<Candidate> pending = new ArrayDeque<Candidate>();
+        private final StringBuilder elementText = new StringBuilder();
+        private long[] reached = new long[16];
+        private long[] context = new long[16];
+        private Candidate[] open = new Candidate[16];
+        private int depth = 0;
+        private int collectingDepth = -1;
+        private Candidate certain = null;
+        private boolean done = false;
+        private String result = null;
+
+        private Evaluation(boolean needValue) {
+            this.needValue = needValue;
+            reached[0] = 1L;
+        }
+
+        boolean isDone() {
+            return done;
+        }
+
+        /**
+         * @return the string value of the first selected node, or <code>null</code> if no node
+         *         has been selected so far
+         */
+        String result() {
+            return result;
+        }
+
+        void startElement(Element element) {
+            final int last = steps.length;
+            final long ctx = reached[depth] | (context[depth] & descendantSteps);
+            long matched = 0;
+            for (int k = 0; k < last; k++) {
+                if ((ctx & (1L << k)) != 0 && steps[k].matchesStart(element)) {
+                    matched |= 1L << (k + 1);
+                }
+            }
+            if (++depth == reached.length) {
+                reached = Arrays.copyOf(reached, depth * 2);
+                context = Arrays.copyOf(context, depth * 2);
+                open = Arrays.copyOf(open, depth * 2);
+            }
+            reached[depth] = matched;
+            context[depth] = ctx;
+            open[depth] = null;
+            if ((matched & (1L << last)) == 0 || certain != null) {
+                return;
+            }
+            final Candidate candidate = new Candidate(depth);
+            if (terminal == Terminal.ATTRIBUTE) {
+                candidate.value = terminalAttribute.valueIn(element);
+                if (candidate.value == null) {
+                    return;
+                }
+            }
+            open[depth] = candidate;
+            if (terminal == Terminal.TEXT) {
+                return; // ordered by its first text node, when that arrives
+            }
+            pending.addLast(candidate);
+            if (terminal == Terminal.ELEMENT && needValue) {
+                candidate.textStart = elementText.length();
+                if (collectingDepth < 0) {
+                    collectingDepth = depth;
+                }
+            }
+            if (!hasTextPredicate()) {
+                satisfied(candidate);
+            }
+        }
+
+        void text(String chars) {
+            if (collectingDepth >= 0) {
+                elementText.append(chars);
+            }
+            final Candidate candidate = open[depth];
+            if (candidate == null || candidate.resolved) {
+                return;
+            }
+            if (terminal == Terminal.TEXT && candidate.value == null) {
+                if (certain != null) {
+                    candidate.resolve(false);
+                    return;
+                }
+                candidate.value = chars;
+                pending.addLast(candidate);
+            }
+            if (!hasTextPredicate() || steps[steps.length - 1].textEquals.equals(chars)) {
+                satisfied(candidate);
+            }
+        }
+
+        void endElement() {
+            final Candidate candidate = open[depth];
+            if (candidate != null && !candidate.resolved) {
+                if (candidate.satisfied) {
+                    candidate.value = elementText.substring(candidate.textStart);
+                    candidate.resolve(true);
+                } else {
+                    candidate.resolve(false);
+                    pending.removeLastOccurrence(candidate);
+                }
+            }
+            if (depth == collectingDepth) {
+                elementText.setLength(0);
+                collectingDepth = -1;
+            }
+            open[depth] = null;
+            depth--;
+            settle();
+        }
+
+        private boolean hasTextPredicate() {
+            return steps[steps.length - 1].hasTextPredicate();
+        }
+
+        /**
+         * The candidate will match: nothing after it can be the first selected node.
+         */
+        private void satisfied(Candidate candidate) {
+            if (candidate.satisfied) {
+                return;
+            }
+            candidate.satisfied = true;
+            certain = candidate;
+            while (pending.peekLast() != candidate) {
+                pending.pollLast().resolve(false);
+            }
+            if (terminal != Terminal.ELEMENT) {
+                candidate.resolve(true);
+            } else if (!needValue) {
+                candidate.value = "";
+                candidate.resolve(true);
+            }
+            settle();
+        }
+
+        private void settle() {
+            while (!pending.isEmpty() && pending.peekFirst().resolved) {
+                final Candidate head = pending.pollFirst();
+                if (head.matched) {
+                    result = head.value;
+                    done = true;
+                    pending.clear();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class Candidate {
+        final int depth;
+        String value;
+        int textStart;
+        boolean satisfied = false;
+        boolean resolved = false;
+        boolean matched = false;
+
+        Candidate(int depth) {
+            this.depth = depth;
+        }
+
+        void resolve(boolean isMatch) {
+            resolved = true;
+            matched = isMatch;
+        }
+    }
+
+    private static final class Name {
+        final String namespaceUri;
+        final String localName;
+
+        Name(String namespaceUri, String localName) {
+            this.namespaceUri = namespaceUri;
+            this.localName = localName;
+        }
+
+        boolean matchesElement(Element element) {
+            return localName.equals(element.localName())
+                && namespaceUri.equals(nonNull(element.namespaceUri()));
+        }
+
+        String valueIn(Element element) {
+            return element.attribute(namespaceUri, localName);
+        }
+    }
+
+    private static final class Step {
+        final boolean descendant;
+        final Name name;
+        final boolean anyName;
+        final List<Name> attributeNames = new ArrayList<Name>();
+        final List<String> attributeValues = new ArrayList<String>();
+        String textEquals;
+
+        Step(boolean descendant, Name name) {
+            this.descendant = descendant;
+            this.anyName = name == null;
+            this.name = name;
+        }
+
+        boolean hasTextPredicate() {
+            return textEquals != null;
+        }
+
+        boolean matchesStart(Element element) {
+            if (!anyName && !name.matchesElement(element)) {
+                return false;
+            }
+            for (int i = 0; i < attributeNames.size(); i++) {
+                final String actual = attributeNames.get(i).valueIn(element);
+                final String expected = attributeValues.get(i);
+                if (actual == null || (expected != null && !expected.equals(actual))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    static String nonNull(String s) {
+        return s == null ? "" : s;
+    }
+
+    private static final class Parser {
+        private final String expression;
+        private final NamespaceContext namespaceContext;
+        private int pos = 0;
+
+        Parser(String expression, NamespaceContext namespaceContext) {
+            this.expression = expression.trim();
+            this.namespaceContext = namespaceContext;
+        }
+
+        StreamingXPath parse() {
+            final List<Step> steps = new ArrayList<Step>();
+            while (pos < expression.length()) {
+                final boolean descendant = separator();
+                skipSpace();
+                if (expression.startsWith("@", pos)) {
+                    if (descendant || steps.isEmpty()) {
+                        throw unsupported();
+                    }
+                    pos++;
+                    final Name attribute = qName();
+                    end();
+                    return build(steps, Terminal.ATTRIBUTE, attribute);
+                }
+                if (expression.startsWith("text()", pos)) {
+                    if (descendant || steps.isEmpty()) {
+                        throw unsupported();
+                    }
+                    pos += "text()".length();
+                    end();
+                    return build(steps, Terminal.TEXT, null);
+                }
+                final Step step = new Step(descendant, expression.startsWith("*", pos) ? star() : qName());
+                while (skipSpace() && expression.startsWith("[", pos)) {
+                    predicate(step);
+                }
+                if (!steps.isEmpty() && steps.get(steps.size() - 1).hasTextPredicate()) {
+                    throw unsupported();
+                }
+                steps.add(step);
+            }
+            return build(steps, Terminal.ELEMENT, null);
+        }
+
+        private StreamingXPath build(List<Step> steps, Terminal terminal, Name attribute) {
+            if (steps.isEmpty() || steps.size() > MAX_STEPS) {
+                throw unsupported();
+            }
+            return new StreamingXPath(steps, terminal, attribute);
+        }
+
+        private boolean separator() {
+            skipSpace();
+            if (expression.startsWith("//", pos)) {
+                pos += 2;
+                return true;
+            }
+            if (expression.startsWith("/", pos)) {
+                pos += 1;
+                return false;
+            }
+            throw unsupported();
+        }
+
+        private void predicate(Step step) {
+            pos++;
+            skipSpace();
+            if (expression.startsWith("@", pos)) {
+                pos++;
+                step.attributeNames.add(qName());
+                step.attributeValues.add(optionalEquals());
+            } else if (expression.startsWith("text()", pos)) {
+                pos += "text()".length();
+                final String value = optionalEquals();
+                if (value == null || step.hasTextPredicate()) {
+                    throw unsupported();
+                }
+                step.textEquals = value;
+            } else {
+                throw unsupported();
+            }
+            skipSpace();
+            expect(']');
+        }
+
+        private String optionalEquals() {
+            skipSpace();
+            if (pos < expression.length() && expression.charAt(pos) == '=') {
+                pos++;
+                skipSpace();
+                return literal();
+            }
+            return null;
+        }
+
+        private String literal() {
+            if (pos >= expression.length()) {
+                throw unsupported();
+            }
+            final char quote = expression.charAt(pos);
+            if (quote != '\'' && quote != '"') {
+                throw unsupported();
+            }
+            final int close = expression.indexOf(quote, pos + 1);
+            if (close < 0) {
+                throw unsupported();
+            }
+            final String value = expression.substring(pos + 1, close);
+            pos = close + 1;
+            return value;
+        }
+
+        private Name star() {
+            pos++;
+            return null;
+        }
+
+        private Name qName() {
+            final int start = pos;
+            while (pos < expression.length() && isNameChar(expression.charAt(pos))) {
+                pos++;
+            }
+            final String qName = expression.substring(start, pos);
+            if (qName.isEmpty() || qName.startsWith(":") || qName.endsWith(":")) {
+                throw unsupported();
+            }
+            final int colon = qName.indexOf(':');
+            if (colon < 0) {
+                return new Name("", qName);
+            }
+            final String prefix = qName.substring(0, colon);
+            final String uri = namespaceContext == null ? null : namespaceContext.getNamespaceURI(prefix);
+            if (uri == null || uri.isEmpty() || qName.indexOf(':', colon + 1) >= 0) {
+                throw unsupported();
+            }
+            return new Name(uri, qName.substring(colon + 1));
+        }
+
+        private static boolean isNameChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == ':';
+        }
+
+        private boolean skipSpace() {
+            while (pos < expression.length() && Character.isWhitespace(expression.charAt(pos))) {
+                pos++;
+            }
+            return true;
+        }
+
+        private void expect(char c) {
+            if (pos >= expression.length() || expression.charAt(pos) != c) {
+                throw unsupported();
+            }
+            pos++;
+        }
+
+        private void end() {
+            skipSpace();
+            if (pos != expression.length()) {
+                throw unsupported();
+            }
+        }
+
+        private IllegalArgumentException unsupported() {
+            return new IllegalArgumentException("Not a streamable XPath: " + expression);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.hamcrest.beans;
+
+import org.hamcrest.Matcher;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.beans.SameFieldValuesAs.sameFieldValuesAs;
+import static org.hamcrest.beans.SamePropertyValuesAs.samePropertyValuesAs;
+
+/**
+ * Rough comparison of reading a field through {@link FieldAccessor}, which calls
+ * {@link Field#get(Object)}, and through a {@link MethodHandle} held in a field, and of
+ * sameFieldValuesAs against samePropertyValuesAs on a bean holding a list of beans,
+ * both with the matcher built once and built for every match.
+ * Not run as part of the build; run its main method directly.
+ */
+public final class FieldAccessBenchmark {
+    private static final int ROUNDS = 10;
+    private static final int ITERATIONS = 2000000;
+    private static final int MATCHES = 20000;
+    private static final int ELEMENTS = 100;
+
+    private final MethodHandle fieldHandle;
+
+    private FieldAccessBenchmark() throws ReflectiveOperationException {
+        final Field field = Item.class.getDeclaredField("name");
+        field.setAccessible(true);
+        this.fieldHandle = MethodHandles.lookup().unreflectGetter(field)
+                .asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    public static void main(String[] args) throws Throwable {
+        new FieldAccessBenchmark().run();
+    }
+
+    private void run() throws Throwable {
+        final Item item = new Item("an item", 1);
+        final FieldAccessor accessor = FieldUtil.fieldAccessor("name", item);
+        final Basket expected = basket();
+        final Basket actual = basket();
+        final Matcher<Basket> byFields = sameFieldValuesAs(expected);
+        final Matcher<Basket> byProperties = samePropertyValuesAs(expected);
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long sink = 0;
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += accessor.read(item).hashCode();
+            }
+            final long reflective = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += ((Object) fieldHandle.invokeExact((Object) item)).hashCode();
+            }
+            final long handle = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < MATCHES; i++) {
+                sink += byFields.matches(actual) ? 1 : 0;
+            }
+            final long fields = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < MATCHES; i++) {
+                sink += byProperties.matches(actual) ? 1 : 0;
+            }
+            final long properties = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < MATCHES; i++) {
+                sink += sameFieldValuesAs(expected).matches(actual) ? 1 : 0;
+            }
+            final long newFields = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < MATCHES; i++) {
+                sink += samePropertyValuesAs(expected).matches(actual) ? 1 : 0;
+            }
+            final long newProperties = System.nanoTime() - start;
+
+            System.out.printf("round %2d: Field.get %4.1f ns/op, handle in field %4.1f ns/op;"
+                    + " sameFieldValuesAs %6.0f ns/op, samePropertyValuesAs %6.0f ns/op;"
+                    + " built per match %6.0f ns/op and %6.0f ns/op (%d)%n",
+                    round, perOp(reflective, ITERATIONS), perOp(handle, ITERATIONS),
+                    perOp(fields, MATCHES), perOp(properties, MATCHES),
+                    perOp(newFields, MATCHES), perOp(newProperties, MATCHES), sink);
+        }
+    }
+
+    private static Basket basket() {
+        final List<Item> items = new ArrayList<Item>();
+        for (int i = 0; i < ELEMENTS; i++) {
+            items.add(new Item("item " + i, i));
+        }
+        return new Basket("a basket", items);
+    }
+
+    private static double perOp(long nanos, int count) {
+        return (double) nanos / count;
+    }
+
+    public static final class Basket {
+        private final String owner;
+        private final List<Item> items;
+
+        Basket(String owner, List<Item> items) {
+            this.owner = owner;
+            this.items = items;
+        }
+
+        public String getOwner() { return owner; }
+        public List<Item> getItems() { return items; }
+    }
+
+    public static final class Item {
+        private final String name;
+        private final int count;
+
+        Item(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        public String getName() { return name; }
+        public int getCount() { return count; }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Item && name.equals(((Item) o).name) && count == ((Item) o).count;
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode() * 31 + count;
+        }
+    }
+}
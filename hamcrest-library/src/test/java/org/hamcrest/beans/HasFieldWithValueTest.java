@@ -0,0 +1,126 @@
+package org.hamcrest.beans;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+import static org.hamcrest.AbstractMatcherTest.*;
+import static org.hamcrest.beans.HasFieldWithValue.hasField;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public final class HasFieldWithValueTest {
+
+    private final Point point = new Point(1, 2, "origin");
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<Object> matcher = hasField("irrelevant", anything());
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    matchesFieldsWhateverTheirVisibility() {
+        assertMatches(hasField("x", equalTo(1)), point);
+        assertMatches(hasField("label", equalTo("origin")), point);
+    }
+
+    @Test public void
+    matchesInheritedFields() {
+        assertMatches(hasField("y", equalTo(2)), new LabelledPoint(3, 2, "a", "b"));
+        assertMatches(hasField("extra", equalTo("b")), new LabelledPoint(3, 2, "a", "b"));
+    }
+
+    @Test public void
+    doesNotMatchAFieldWithADifferentValue() {
+        assertMismatchDescription("field 'x' was <1>", hasField("x", equalTo(3)), point);
+    }
+
+    @Test public void
+    doesNotMatchIfFieldDoesNotExist() {
+        assertMismatchDescription("No field \"z\"", hasField("z", anything()), point);
+    }
+
+    @Test public void
+    matchesAccessorsWithoutAGetPrefix() {
+        assertMatches(hasField("euros", equalTo(12)), new Money(1234));
+        assertMismatchDescription("field 'euros' was <12>", hasField("euros", equalTo(13)), new Money(1234));
+    }
+
+    @Test public void
+    prefersAFieldToAnAccessorWithTheSameName() {
+        assertMatches(hasField("cents", equalTo(1234)), new Money(1234));
+    }
+
+    @Test public void
+    describesAnAccessorThatThrows() {
+        assertMismatchDescription(
+                "Calling 'public java.lang.String org.hamcrest.beans.HasFieldWithValueTest$Money.currency()': \"no currency\"",
+                hasField("currency", anything()), new Money(1234));
+    }
+
+    @Test public void
+    ignoresMethodsThatAreNotAccessors() {
+        assertMismatchDescription("No field \"clear\"", hasField("clear", anything()), new Money(1234));
+        assertMismatchDescription("No field \"scaled\"", hasField("scaled", anything()), new Money(1234));
+    }
+
+    @Test public void
+    ignoresStaticFields() {
+        assertDoesNotMatch(hasField("ORIGIN_NAME", anything()), point);
+    }
+
+    @Test public void
+    describesItself() {
+        assertDescription("hasField(\"x\", <1>)", hasField("x", equalTo(1)));
+    }
+
+    static class Point {
+        static final String ORIGIN_NAME = "origin";
+        public final int x;
+        final int y;
+        private final String label;
+
+        Point(int x, int y, String label) {
+            this.x = x;
+            this.y = y;
+            this.label = label;
+        }
+    }
+
+    static final class LabelledPoint extends Point {
+        private final String extra;
+
+        LabelledPoint(int x, int y, String label, String extra) {
+            super(x, y, label);
+            this.extra = extra;
+        }
+    }
+
+    static final class Money {
+        private final int cents;
+
+        Money(int cents) {
+            this.cents = cents;
+        }
+
+        public int cents() {
+            return -1;
+        }
+
+        public int euros() {
+            return cents / 100;
+        }
+
+        public String currency() {
+            throw new IllegalStateException("no currency");
+        }
+
+        public void clear() { }
+
+        public int scaled(int factor) {
+            return cents * factor;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package org.hamcrest.beans;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.Matcher;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.beans.IsDeeplyEqual.deeplyEqualTo;
+
+public class IsDeeplyEqualTest extends AbstractMatcherTest {
+
+  @Override
+  protected Matcher<?> createMatcher() {
+    return deeplyEqualTo(new Pair("a", null, null));
+  }
+
+  public void testMatchesEqualLeafValues() {
+    assertMatches(deeplyEqualTo("text"), "text");
+    assertMatches(deeplyEqualTo(null), null);
+    assertMismatchDescription("was \"other\"", deeplyEqualTo("text"), "other");
+    assertMismatchDescription("is incompatible type: Integer", deeplyEqualTo((Object) "text"), 1);
+  }
+
+  public void testComparesObjectsFieldByField() {
+    assertMatches(deeplyEqualTo(new Pair("a", new Pair("b", null, null), null)),
+        new Pair("a", new Pair("b", null, null), null));
+    assertMismatchDescription("left.name was \"c\"",
+        deeplyEqualTo(new Pair("a", new Pair("b", null, null), null)), new Pair("a", new Pair("c", null, null), null));
+  }
+
+  public void testComparesSharedSubgraphsOnlyOnce() {
+    assertMatches(deeplyEqualTo(diamonds(60, "leaf")), diamonds(60, "leaf"));
+    assertMismatchDescription("left.left.left.name was \"other\"",
+        deeplyEqualTo(diamonds(3, "leaf")), diamonds(3, "other"));
+  }
+
+  public void testTerminatesOnCycles() {
+    final Pair expected = new Pair("a", null, null);
+    expected.left = expected;
+    final Pair actual = new Pair("a", null, null);
+    actual.left = new Pair("a", actual, null);
+
+    assertMatches(deeplyEqualTo(expected), actual);
+  }
+
+  public void testComparesArraysListsAndMapsElementByElement() {
+    assertMatches(deeplyEqualTo(Arrays.asList(new Pair("a", null, null))),
+        Collections.singletonList(new Pair("a", null, null)));
+    assertMismatchDescription("[1].name was \"c\"",
+        deeplyEqualTo(new Pair[] {new Pair("a", null, null), new Pair("b", null, null)}),
+        new Pair[] {new Pair("a", null, null), new Pair("c", null, null)});
+    assertMismatchDescription("had size 1", deeplyEqualTo(Arrays.asList(1, 2)), Arrays.asList(1));
+    assertMismatchDescription("[1] was <3>", deeplyEqualTo(new int[] {1, 2}), new int[] {1, 3});
+
+    final Map<String, Object> expected = new LinkedHashMap<String, Object>();
+    expected.put("x", new Pair("a", null, null));
+    expected.put("y", 1);
+    final Map<String, Object> actual = new HashMap<String, Object>();
+    actual.put("x", new Pair("b", null, null));
+    actual.put("z", 1);
+    assertMismatchDescription("had 3 differences:"
+        + "\n          [x].name was \"b\""
+        + "\n          [y] was missing"
+        + "\n          [z] was not expected",
+        deeplyEqualTo(expected), actual);
+  }
+
+  public void testComparesOtherCollectionsAndIterablesInIterationOrder() {
+    assertMatches(deeplyEqualTo(new ArrayDeque<Pair>(Arrays.asList(new Pair("a", null, null)))),
+        new ArrayDeque<Pair>(Arrays.asList(new Pair("a", null, null))));
+    assertMatches(deeplyEqualTo(Collections.unmodifiableCollection(Arrays.asList(new Pair("a", null, null)))),
+        Collections.unmodifiableCollection(Arrays.asList(new Pair("a", null, null))));
+    assertMatches(deeplyEqualTo(new Holder(new ArrayDeque<Object>(Arrays.asList(new Pair("a", null, null))))),
+        new Holder(new ArrayDeque<Object>(Arrays.asList(new Pair("a", null, null)))));
+    assertMismatchDescription("items[0].name was \"b\"",
+        deeplyEqualTo(new Holder(new ArrayDeque<Object>(Arrays.asList(new Pair("a", null, null))))),
+        new Holder(new ArrayDeque<Object>(Arrays.asList(new Pair("b", null, null)))));
+    assertMismatchDescription("had size 2",
+        deeplyEqualTo(new Pairs(new Pair("a", null, null))), new Pairs(new Pair("a", null, null), new Pair("b", null, null)));
+  }
+
+  public void testMatchesSetsByDeeplyEqualElements() {
+    final Set<Object> expected = new HashSet<Object>(Arrays.asList(new Pair("a", null, null), new Pair("b", null, null), 1));
+    final Set<Object> actual = new HashSet<Object>(Arrays.asList(new Pair("b", null, null), new Pair("a", null, null), 1));
+
+    assertMatches(deeplyEqualTo(new Holder(expected)), new Holder(actual));
+    assertMismatchDescription("had 2 differences:"
+        + "\n          items did not contain <Pair a>"
+        + "\n          items had unexpected <Pair c>",
+        deeplyEqualTo(new Holder(Collections.<Object>singleton(new Pair("a", null, null)))),
+        new Holder(Collections.<Object>singleton(new Pair("c", null, null))));
+  }
+
+  public void testComparesGraphsNestedDeeply() {
+    assertMatches(deeplyEqualTo(chain(20000)), chain(20000));
+
+    final Pair expected = linkedList(5000, "end");
+    final String mismatch = mismatchDescription(deeplyEqualTo(expected), linkedList(5000, "other"));
+    assertTrue(mismatch.endsWith("left.left.name was \"other\""));
+    assertEquals(4999 * "left.".length() + "name was \"other\"".length(), mismatch.length());
+  }
+
+  public void testMatchesLargeSetsOfObjectsWithoutEquals() {
+    final Pair shared = diamonds(20, "leaf");
+    final Set<Pair> expected = new HashSet<Pair>();
+    final Set<Pair> actual = new HashSet<Pair>();
+    for (int i = 0; i < 3000; i++) {
+      expected.add(new Pair("item" + i, shared, null));
+      actual.add(new Pair("item" + i, shared, null));
+    }
+
+    assertMatches(deeplyEqualTo(new Holder(new HashSet<Object>(expected))), new Holder(new HashSet<Object>(actual)));
+  }
+
+  public void testDoesNotKeepWhatAFailedSetTrialAssumed() {
+    final Pair expectedChild = new Pair("x", null, null);
+    final Pair actualChild = new Pair("y", null, null);
+    final Map<String, Object> expected = new LinkedHashMap<String, Object>();
+    expected.put("set", Collections.singleton(new Pair("a", expectedChild, null)));
+    expected.put("child", expectedChild);
+    final Map<String, Object> actual = new LinkedHashMap<String, Object>();
+    actual.put("set", Collections.singleton(new Pair("a", actualChild, null)));
+    actual.put("child", actualChild);
+
+    assertMismatchDescription("had 3 differences:"
+        + "\n          [set] did not contain <Pair a>"
+        + "\n          [set] had unexpected <Pair a>"
+        + "\n          [child].name was \"y\"",
+        deeplyEqualTo(expected), actual);
+  }
+
+  public void testCapsTheNumberOfReportedDifferences() {
+    final List<Integer> expected = Arrays.asList(1, 2, 3, 4);
+    final List<Integer> actual = Arrays.asList(5, 6, 7, 8);
+
+    assertMismatchDescription("stopped after 2 differences:"
+        + "\n          [0] was <5>"
+        + "\n          [1] was <6>",
+        deeplyEqualTo(expected, 2), actual);
+  }
+
+  public void testDescribesItself() {
+    assertDescription("deeply equal to \"text\"", deeplyEqualTo("text"));
+  }
+
+  private static Object[] chain(int depth) {
+    Object[] link = new Object[] {"end"};
+    for (int i = 0; i < depth; i++) {
+      link = new Object[] {link};
+    }
+    return link;
+  }
+
+  private static Pair linkedList(int length, String lastName) {
+    Pair node = new Pair(lastName, null, null);
+    for (int i = 1; i < length; i++) {
+      node = new Pair("node", node, null);
+    }
+    return node;
+  }
+
+  private static Pair diamonds(int depth, String leafName) {
+    Pair node = new Pair(leafName, null, null);
+    for (int i = 0; i < depth; i++) {
+      node = new Pair("level", node, node);
+    }
+    return node;
+  }
+
+  static final class Pair {
+    private final String name;
+    Pair left;
+    private final Pair right;
+
+    Pair(String name, Pair left, Pair right) {
+      this.name = name;
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public String toString() {
+      return "Pair " + name;
+    }
+  }
+
+  static final class Holder {
+    private final Collection<Object> items;
+
+    Holder(Collection<Object> items) {
+      this.items = items;
+    }
+  }
+
+  static final class Pairs implements Iterable<Pair> {
+    private final List<Pair> pairs;
+
+    Pairs(Pair... pairs) {
+      this.pairs = Arrays.asList(pairs);
+    }
+
+    @Override
+    public Iterator<Pair> iterator() {
+      return pairs.iterator();
+    }
+  }
+}
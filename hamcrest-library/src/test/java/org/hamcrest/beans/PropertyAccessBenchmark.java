@@ -0,0 +1,83 @@
+package org.hamcrest.beans;
+
+import org.hamcrest.Matcher;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
+
+/**
+ * Rough comparison of ways to read a bean property: the cached {@link PropertyAccessor},
+ * which calls {@link Method#invoke(Object, Object...)}, a {@link MethodHandle} held in a
+ * field, as a per-property cache would hold it, and a handle held in a static final field,
+ * which only a getter known in advance could use. Also measures a whole hasProperty match.
+ * Not run as part of the build; run its main method directly.
+ */
+public final class PropertyAccessBenchmark {
+    private static final int ROUNDS = 10;
+    private static final int ITERATIONS = 2000000;
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodHandle CONSTANT_HANDLE = getter();
+
+    private final MethodHandle fieldHandle = getter();
+
+    public static void main(String[] args) throws Throwable {
+        new PropertyAccessBenchmark().run();
+    }
+
+    private void run() throws Throwable {
+        final HasPropertyWithValueTest.BeanWithoutInfo bean = new HasPropertyWithValueTest.BeanWithoutInfo("a bean");
+        final PropertyAccessor accessor = PropertyUtil.propertyAccessor("property", bean);
+        final Matcher<Object> matcher = hasProperty("property", equalTo("a bean"));
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long sink = 0;
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += accessor.read(bean).hashCode();
+            }
+            final long reflective = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += ((Object) fieldHandle.invokeExact((Object) bean)).hashCode();
+            }
+            final long handle = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += ((Object) CONSTANT_HANDLE.invokeExact((Object) bean)).hashCode();
+            }
+            final long constant = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += matcher.matches(bean) ? 1 : 0;
+            }
+            final long match = System.nanoTime() - start;
+
+            System.out.printf("round %2d: Method.invoke %5.1f ns/op, handle in field %5.1f ns/op, constant handle %5.1f ns/op,"
+                    + " hasProperty %6.1f ns/op (%d)%n",
+                    round, perOp(reflective), perOp(handle), perOp(constant), perOp(match), sink);
+        }
+    }
+
+    private static MethodHandle getter() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(HasPropertyWithValueTest.BeanWithoutInfo.class, "getProperty", MethodType.methodType(String.class))
+                    .asType(GETTER_TYPE);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static double perOp(long nanos) {
+        return (double) nanos / ITERATIONS;
+    }
+}
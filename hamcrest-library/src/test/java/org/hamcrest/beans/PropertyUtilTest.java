@@ -0,0 +1,71 @@
+package org.hamcrest.beans;
+
+import org.junit.Test;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.Assert.*;
+
+public final class PropertyUtilTest {
+
+    private final HasPropertyWithValueTest.BeanWithoutInfo bean = new HasPropertyWithValueTest.BeanWithoutInfo("a bean");
+
+    @Test public void
+    resolvesEachPropertyOncePerClass() {
+        PropertyAccessor first = PropertyUtil.propertyAccessor("property", bean);
+        PropertyAccessor second = PropertyUtil.propertyAccessor("property", new HasPropertyWithValueTest.BeanWithoutInfo("another bean"));
+
+        assertSame(first, second);
+        assertEquals("getProperty", first.readMethod.getName());
+        assertSame(first.descriptor, PropertyUtil.getPropertyDescriptor("property", bean));
+    }
+
+    @Test public void
+    returnsNullForAnUnknownProperty() {
+        assertNull(PropertyUtil.propertyAccessor("aNonExistentProp", bean));
+        assertNull(PropertyUtil.getPropertyDescriptor("aNonExistentProp", bean));
+    }
+
+    @Test public void
+    resolvesWriteOnlyPropertiesWithoutAReadMethod() {
+        assertNull(PropertyUtil.propertyAccessor("writeOnlyProperty", bean).readMethod);
+    }
+
+    @Test public void
+    handsOutCopiesOfTheCachedDescriptors() {
+        PropertyDescriptor[] descriptors = PropertyUtil.propertyDescriptorsFor(bean, Object.class);
+        descriptors[0] = null;
+
+        assertNotNull(PropertyUtil.propertyDescriptorsFor(bean, Object.class)[0]);
+    }
+
+    @Test public void
+    excludesObjectPropertiesFromTheNamesBelowObject() {
+        assertTrue(PropertyUtil.propertyNamesBelowObject(bean).contains("property"));
+        assertFalse(PropertyUtil.propertyNamesBelowObject(bean).contains("class"));
+        assertTrue(PropertyUtil.getPropertyDescriptor("class", bean) != null);
+    }
+
+    @Test public void
+    readsPropertyValuesThroughTheResolvedGetter() throws Exception {
+        assertEquals("a bean", PropertyUtil.propertyAccessor("property", bean).read(bean));
+        assertEquals(Boolean.FALSE, PropertyUtil.propertyAccessor("empty", "").read("x"));
+    }
+
+    @Test public void
+    wrapsExceptionsThrownByTheGetter() throws Exception {
+        HasPropertyWithValueTest.BeanWithBug buggy = new HasPropertyWithValueTest.BeanWithBug();
+        try {
+            PropertyUtil.propertyAccessor("broken", buggy).read(buggy);
+            fail("should have thrown");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getTargetException() instanceof HasPropertyWithValueTest.BeanFailed);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    rejectsBeansOfTheWrongType() throws Exception {
+        PropertyUtil.propertyAccessor("property", bean).read("not a bean");
+    }
+}
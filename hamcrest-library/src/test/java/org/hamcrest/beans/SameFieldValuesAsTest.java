@@ -0,0 +1,117 @@
+package org.hamcrest.beans;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.Matcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.beans.SameFieldValuesAs.sameFieldValuesAs;
+
+public class SameFieldValuesAsTest extends AbstractMatcherTest {
+  private static final Node expected = new Node("a", 1, new Node("b", 2, null));
+
+  @Override
+  protected Matcher<?> createMatcher() {
+    return sameFieldValuesAs(expected);
+  }
+
+  public void testMatchesObjectsWithEqualFieldsAtEveryLevel() {
+    assertMatches("same fields", sameFieldValuesAs(expected), new Node("a", 1, new Node("b", 2, null)));
+  }
+
+  public void testReportsThePathToTheFirstDifference() {
+    assertMismatchDescription("name was \"x\"",
+        sameFieldValuesAs(expected), new Node("x", 1, new Node("b", 2, null)));
+    assertMismatchDescription("next.weight was <3>",
+        sameFieldValuesAs(expected), new Node("a", 1, new Node("b", 3, null)));
+    assertMismatchDescription("next.next was <Node c>",
+        sameFieldValuesAs(expected), new Node("a", 1, new Node("b", 2, new Node("c", 3, null))));
+  }
+
+  public void testReportsMismatchWhenActualTypeIsNotAssignableToExpectedType() {
+    assertMismatchDescription("is incompatible type: String", sameFieldValuesAs((Object) expected), "a string");
+  }
+
+  public void testRejectsSubTypeThatHasExtraFields() {
+    assertMismatchDescription("has extra fields called [colour]",
+        sameFieldValuesAs(expected), new ColouredNode("a", 1, new Node("b", 2, null), "red"));
+  }
+
+  public void testComparesCyclicStructures() {
+    final Node expectedCycle = new Node("a", 1, null);
+    expectedCycle.next = expectedCycle;
+    final Node actualCycle = new Node("a", 1, null);
+    actualCycle.next = new Node("a", 1, actualCycle);
+
+    assertMatches("cycle", sameFieldValuesAs(expectedCycle), actualCycle);
+  }
+
+  public void testComparesObjectsWithFieldsThatCannotBeReadWithEquals() {
+    if (FieldUtil.fieldsOf(ArrayList.class).allReadable) {
+      return; // the fields of JDK classes can only be out of reach from Java 9 on
+    }
+    final List<String> list = new ArrayList<String>(Arrays.asList("a", "b"));
+
+    assertMatches("equal", sameFieldValuesAs(list), new ArrayList<String>(Arrays.asList("a", "b")));
+    assertMismatchDescription("was <[a, c]>", sameFieldValuesAs(list), new ArrayList<String>(Arrays.asList("a", "c")));
+  }
+
+  public void testComparesArraysAndCollections() {
+    final Holder holder = new Holder(new int[] {1, 2}, new Node[] {new Node("a", 1, null)}, Arrays.asList("x", "y"));
+
+    assertMatches("same contents", sameFieldValuesAs(holder),
+        new Holder(new int[] {1, 2}, new Node[] {new Node("a", 1, null)}, Arrays.asList("x", "y")));
+    assertMismatchDescription("numbers[1] was <3>", sameFieldValuesAs(holder),
+        new Holder(new int[] {1, 3}, new Node[] {new Node("a", 1, null)}, Arrays.asList("x", "y")));
+    assertMismatchDescription("numbers had length 1", sameFieldValuesAs(holder),
+        new Holder(new int[] {1}, new Node[] {new Node("a", 1, null)}, Arrays.asList("x", "y")));
+    assertMismatchDescription("nodes[0].weight was <2>", sameFieldValuesAs(holder),
+        new Holder(new int[] {1, 2}, new Node[] {new Node("a", 2, null)}, Arrays.asList("x", "y")));
+    assertMismatchDescription("strings[1] was \"z\"", sameFieldValuesAs(holder),
+        new Holder(new int[] {1, 2}, new Node[] {new Node("a", 1, null)}, Arrays.asList("x", "z")));
+  }
+
+  public void testDescribesItself() {
+    assertDescription("same field values as Node [name: \"a\", next: <Node b>, weight: <1>]", sameFieldValuesAs(expected));
+  }
+
+  static class Node {
+    private final String name;
+    private final int weight;
+    Node next;
+
+    Node(String name, int weight, Node next) {
+      this.name = name;
+      this.weight = weight;
+      this.next = next;
+    }
+
+    @Override
+    public String toString() {
+      return "Node " + name;
+    }
+  }
+
+  static final class ColouredNode extends Node {
+    private final String colour;
+
+    ColouredNode(String name, int weight, Node next, String colour) {
+      super(name, weight, next);
+      this.colour = colour;
+    }
+  }
+
+  static final class Holder {
+    private final int[] numbers;
+    private final Node[] nodes;
+    private final List<String> strings;
+
+    Holder(int[] numbers, Node[] nodes, List<String> strings) {
+      this.numbers = numbers;
+      this.nodes = nodes;
+      this.strings = strings;
+    }
+  }
+}
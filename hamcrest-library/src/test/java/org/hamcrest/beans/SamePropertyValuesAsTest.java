@@ -4,6 +4,7 @@ import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 
 import static org.hamcrest.beans.SamePropertyValuesAs.samePropertyValuesAs;
+import static org.hamcrest.beans.SamePropertyValuesAs.samePropertyValuesReportingAllDifferencesAs;
 
 @SuppressWarnings("UnusedDeclaration")
 public class SamePropertyValuesAsTest extends AbstractMatcherTest {
@@ -45,6 +46,34 @@ public class SamePropertyValuesAsTest extends AbstractMatcherTest {
         samePropertyValuesAs(expectedBean), new SubBeanWithExtraProperty("same", 1, aValue));
   }
   
+  public void testReportsAllPropertyDifferencesWhenAsked() {
+    assertMismatchDescription("int was <2>, string was \"different\", value was <Value other>",
+        samePropertyValuesReportingAllDifferencesAs(expectedBean), new ExampleBean("different", 2, new Value("other")));
+    assertMatches("matched properties", samePropertyValuesReportingAllDifferencesAs(expectedBean), actualBean);
+  }
+
+  public void testChecksTheShapeOfEachNewClass() {
+    Matcher<ExampleBean> matcher = samePropertyValuesAs(expectedBean);
+
+    assertMatches("first", matcher, actualBean);
+    assertMatches("same class again", matcher, new ExampleBean("same", 1, aValue));
+    assertMismatchDescription("has extra properties called [extra]",
+        matcher, new SubBeanWithExtraProperty("same", 1, aValue));
+    assertMatches("back to the first class", matcher, actualBean);
+    assertMismatchDescription("has extra properties called [extra]",
+        matcher, new SubBeanWithExtraProperty("same", 1, aValue));
+  }
+
+  public void testReadsEachPropertyOnceWhenDescribingAMismatch() {
+    final CountingBean first = new CountingBean("actual");
+    mismatchDescription(samePropertyValuesAs(new CountingBean("expected")), first);
+    assertEquals(1, first.reads);
+
+    final CountingBean all = new CountingBean("actual");
+    mismatchDescription(samePropertyValuesReportingAllDifferencesAs(new CountingBean("expected")), all);
+    assertEquals(1, all.reads);
+  }
+
   public void testDescribesItself() {
     assertDescription("same property values as ExampleBean [int: <1>, string: \"same\", value: <Value expected>]", samePropertyValuesAs(expectedBean));
   }
@@ -83,6 +112,20 @@ public class SamePropertyValuesAsTest extends AbstractMatcherTest {
     }
   }
   
+  public static class CountingBean {
+    private final String value;
+    int reads = 0;
+
+    public CountingBean(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      reads++;
+      return value;
+    }
+  }
+
   public static class SubBeanWithNoExtraProperties extends ExampleBean {
     public SubBeanWithNoExtraProperties(String stringProperty, int intProperty, Value valueProperty) {
       super(stringProperty, intProperty, valueProperty);
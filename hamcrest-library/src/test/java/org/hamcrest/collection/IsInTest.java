@@ -41,4 +41,11 @@ public class IsInTest extends AbstractMatcherTest {
             "one of {\"a\", \"b\", \"c\"}", 
             StringDescription.toString(isIn));
     }
+
+    public void testIsStructurallyEqual() {
+        assertEquals(new IsIn<String>(elements), new IsIn<String>(Arrays.asList(elements)));
+        assertEquals(new IsIn<String>(elements).hashCode(), new IsIn<String>(Arrays.asList(elements)).hashCode());
+        assertFalse(new IsIn<String>(elements).equals(new IsIn<String>(new String[] {"a"})));
+        assertFalse(new IsIn<String>(elements).equals(new IsIn<String>(elements) { }));
+    }
 }
@@ -4,10 +4,15 @@ import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.TreeSet;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.comparator.ComparatorMatcherBuilder.comparedBy;
+import static org.hamcrest.core.Every.everyItem;
+import static org.hamcrest.core.IsCollectionContaining.hasItem;
 import static org.hamcrest.core.IsNot.not;
 
 public class ComparatorMatcherBuilderTest extends AbstractMatcherTest {
@@ -99,12 +104,88 @@ public class ComparatorMatcherBuilderTest extends AbstractMatcherTest {
         assertThat(5, comparedBy(backwardsIntegerComparator).lessThan(4));
     }
 
+    public void testComparesObjectsForIntervals() {
+        assertThat(1, integerComparatorMatcherBuilder.between(1, 3));
+        assertThat(3, integerComparatorMatcherBuilder.between(1, 3));
+        assertThat(4, not(integerComparatorMatcherBuilder.between(1, 3)));
+        assertThat(1, not(integerComparatorMatcherBuilder.inRange(1, false, 3, true)));
+        assertThat(3, not(integerComparatorMatcherBuilder.inRange(1, true, 3, false)));
+        assertThat(2, integerComparatorMatcherBuilder.inRange(1, false, 3, false));
+        assertThat(3, comparedBy(backwardsIntegerComparator).between(5, 1));
+    }
+
+    public void testDescribesIntervals() {
+        assertDescription("a value equal to or greater than <1> and less than or equal to <3>", integerComparatorMatcherBuilder.between(1, 3));
+        assertDescription("a value greater than <1> and less than <3>", integerComparatorMatcherBuilder.inRange(1, false, 3, false));
+        assertDescription("a value equal to or greater than <5> and less than or equal to <1> when compared by <backwards integer comparator>",
+                comparedBy(backwardsIntegerComparator).between(5, 1));
+
+        assertMismatchDescription("<0> was less than <1>", integerComparatorMatcherBuilder.between(1, 3), 0);
+        assertMismatchDescription("<4> was greater than <3>", integerComparatorMatcherBuilder.between(1, 3), 4);
+        assertMismatchDescription("<3> was equal to <3>", integerComparatorMatcherBuilder.inRange(1, true, 3, false), 3);
+        assertMismatchDescription("<6> was less than <5> when compared by <backwards integer comparator>",
+                comparedBy(backwardsIntegerComparator).between(5, 1), 6);
+    }
+
+    public void testRejectsIntervalsWithBoundsTheWrongWayRound() {
+        try {
+            integerComparatorMatcherBuilder.between(3, 1);
+            fail("should have thrown");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testSearchesSortedSetsByRange() {
+        final TreeSet<Integer> set = new UnIterableTreeSet<Integer>(null, 1, 5, 9);
+
+        assertThat(set, hasItem(integerComparatorMatcherBuilder.between(4, 6)));
+        assertThat(set, not(hasItem(integerComparatorMatcherBuilder.inRange(5, false, 9, false))));
+        assertThat(set, everyItem(integerComparatorMatcherBuilder.between(1, 9)));
+        assertThat(set, not(everyItem(integerComparatorMatcherBuilder.between(1, 8))));
+
+        final TreeSet<Integer> backwards = new UnIterableTreeSet<Integer>(backwardsIntegerComparator, 1, 5, 9);
+        assertThat(backwards, hasItem(comparedBy(backwardsIntegerComparator).between(6, 4)));
+        assertThat(backwards, everyItem(comparedBy(backwardsIntegerComparator).between(9, 1)));
+    }
+
+    public void testChecksEveryItemOfSetsWithADifferentOrdering() {
+        final TreeSet<Integer> backwards = new TreeSet<Integer>(backwardsIntegerComparator);
+        backwards.addAll(Arrays.asList(1, 5, 9));
+
+        assertThat(backwards, hasItem(integerComparatorMatcherBuilder.between(4, 6)));
+        assertThat(backwards, not(everyItem(integerComparatorMatcherBuilder.between(1, 8))));
+    }
+
+    public void testDescribesSortedSetMismatchesItemByItem() {
+        final TreeSet<Integer> set = new TreeSet<Integer>(Arrays.asList(1, 5, 9));
+
+        assertMismatchDescription("an item <9> was greater than <8>", everyItem(integerComparatorMatcherBuilder.between(1, 8)), set);
+        assertMismatchDescription("mismatches were: [<1> was less than <2>, <5> was greater than <4>, <9> was greater than <4>]",
+                hasItem(integerComparatorMatcherBuilder.between(2, 4)), set);
+    }
+
+    public void testMatchersAreStructurallyEqual() {
+        final ComparatorMatcherBuilder<Integer> otherNaturalOrdering = ComparatorMatcherBuilder.usingNaturalOrdering();
+        final ComparatorMatcherBuilder<Integer> backwards = comparedBy(backwardsIntegerComparator);
+
+        assertEquals(integerComparatorMatcherBuilder.greaterThan(1), otherNaturalOrdering.greaterThan(1));
+        assertEquals(integerComparatorMatcherBuilder.greaterThan(1).hashCode(), otherNaturalOrdering.greaterThan(1).hashCode());
+        assertEquals(integerComparatorMatcherBuilder.between(1, 3), otherNaturalOrdering.between(1, 3));
+        assertEquals(integerComparatorMatcherBuilder.between(1, 3).hashCode(), otherNaturalOrdering.between(1, 3).hashCode());
+
+        assertFalse(integerComparatorMatcherBuilder.greaterThan(1).equals(otherNaturalOrdering.greaterThanOrEqualTo(1)));
+        assertFalse(integerComparatorMatcherBuilder.greaterThan(1).equals(backwards.greaterThan(1)));
+        assertFalse(integerComparatorMatcherBuilder.between(1, 3).equals(otherNaturalOrdering.inRange(1, true, 3, false)));
+    }
+
     public void testJavadocExamples() {
         assertThat(1, ComparatorMatcherBuilder.<Integer>usingNaturalOrdering().comparesEqualTo(1));
         assertThat(2, ComparatorMatcherBuilder.<Integer>usingNaturalOrdering().greaterThan(1));
         assertThat(1, ComparatorMatcherBuilder.<Integer>usingNaturalOrdering().greaterThanOrEqualTo(1));
         assertThat(1, ComparatorMatcherBuilder.<Integer>usingNaturalOrdering().lessThan(2));
         assertThat(1, ComparatorMatcherBuilder.<Integer>usingNaturalOrdering().lessThanOrEqualTo(1));
+        assertThat(2, ComparatorMatcherBuilder.<Integer>usingNaturalOrdering().between(1, 3));
+        assertThat(2, ComparatorMatcherBuilder.<Integer>usingNaturalOrdering().inRange(1, true, 3, false));
         assertThat(5, comparedBy(new Comparator<Integer>() {
             @Override
             public int compare(Integer o1, Integer o2) {
@@ -125,4 +206,28 @@ public class ComparatorMatcherBuilderTest extends AbstractMatcherTest {
             return value - other.value;
         }
     }
+
+    /**
+     * A sorted set that fails if anything visits its items one by one.
+     */
+    @SuppressWarnings("serial")
+    private static final class UnIterableTreeSet<E> extends TreeSet<E> {
+        @SafeVarargs
+        UnIterableTreeSet(Comparator<? super E> comparator, E... items) {
+            super(comparator);
+            for (E item : items) {
+                add(item);
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            final Iterator<E> items = super.iterator();
+            return new Iterator<E>() {
+                @Override public boolean hasNext() { return items.hasNext(); }
+                @Override public E next() { throw new AssertionError("should not visit the items one by one"); }
+                @Override public void remove() { throw new UnsupportedOperationException(); }
+            };
+        }
+    }
 }
@@ -0,0 +1,165 @@
+package org.hamcrest.concurrent;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
+import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
+import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.AbstractMatcherTest.mismatchDescription;
+import static org.hamcrest.concurrent.FutureMatchers.aFutureThat;
+import static org.hamcrest.concurrent.FutureMatchers.completesWith;
+import static org.hamcrest.concurrent.FutureMatchers.everyFutureThat;
+import static org.hamcrest.concurrent.FutureMatchers.failsWith;
+import static org.hamcrest.concurrent.FutureMatchers.within;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class FutureMatchersTest {
+
+    private static final Callable<Integer> FAILING = new Callable<Integer>() {
+        @Override public Integer call() throws Exception { throw new IOException("boom"); }
+    };
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<?> matcher = completesWith(equalTo(1));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    matchesTheValueOfACompletedFuture() {
+        assertMatches(completesWith(equalTo(1)), completed(1));
+        assertDoesNotMatch(completesWith(equalTo(1)), completed(2));
+        assertMismatchDescription("completed with value was <2>", completesWith(equalTo(1)), completed(2));
+    }
+
+    @Test public void
+    matchesTheFailureOfACompletedFuture() {
+        assertMatches(failsWith(instanceOf(IOException.class)), failed());
+        assertMismatchDescription("failed with <java.io.IOException: boom> is a java.io.IOException",
+                                  failsWith(instanceOf(RuntimeException.class)), failed());
+        assertMismatchDescription("failed with <java.io.IOException: boom>", completesWith(equalTo(1)), failed());
+        assertMismatchDescription("completed with <1>", failsWith(instanceOf(IOException.class)), completed(1));
+    }
+
+    @Test public void
+    doesNotWaitForAnIncompleteFutureByDefault() {
+        assertMismatchDescription("was not complete", completesWith(equalTo(1)), new FutureTask<Integer>(FAILING));
+    }
+
+    @Test public void
+    reportsCancelledFutures() {
+        FutureTask<Integer> future = new FutureTask<Integer>(FAILING);
+        future.cancel(false);
+
+        assertMismatchDescription("was cancelled", completesWith(equalTo(1)), future);
+    }
+
+    @Test public void
+    waitsForAFutureToComplete() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            Future<Integer> future = executor.schedule(constant(1), 20, MILLISECONDS);
+
+            assertMatches(aFutureThat(completesWith(equalTo(1)), within(5, SECONDS)), future);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test public void
+    givesUpAfterTheTimeout() {
+        FutureMatcher<Integer> matcher = aFutureThat(completesWith(equalTo(1)), within(10, MILLISECONDS));
+
+        assertDescription("a future that completes with <1> within 10ms", matcher);
+        assertMismatchDescription("was not complete within 10ms", matcher, new FutureTask<Integer>(FAILING));
+    }
+
+    @Test public void
+    reportsAFutureThatCompletesAfterTheTimeoutAsNotComplete() {
+        FutureMatcher<Integer> matcher = aFutureThat(completesWith(equalTo(1)), within(10, MILLISECONDS));
+        FutureTask<Integer> future = new FutureTask<Integer>(constant(1));
+
+        assertFalse(matcher.matches(future));
+        future.run();
+        assertEquals("was not complete within 10ms", mismatchDescription(matcher, future));
+    }
+
+    @Test public void
+    waitsForEveryFutureAgainstOneDeadline() {
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(3);
+        try {
+            List<Future<Integer>> futures = Arrays.<Future<Integer>>asList(
+                executor.schedule(constant(1), 200, MILLISECONDS),
+                executor.schedule(constant(1), 200, MILLISECONDS),
+                executor.schedule(constant(1), 200, MILLISECONDS));
+
+            long start = System.nanoTime();
+            assertMatches(everyFutureThat(completesWith(equalTo(1)), within(5, SECONDS)), futures);
+            assertTrue(NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test public void
+    reportsTheFirstFutureThatDoesNotMatch() {
+        List<Future<Integer>> futures = Arrays.asList(completed(1), completed(2), new FutureTask<Integer>(FAILING));
+        Matcher<Iterable<? extends Future<? extends Integer>>> matcher =
+            everyFutureThat(completesWith(equalTo(1)), within(10, MILLISECONDS));
+
+        assertDescription("every item is a future that completes with <1> within 10ms", matcher);
+        assertMismatchDescription("future 1 completed with value was <2>", matcher, futures);
+    }
+
+    @Test public void
+    reportsFuturesThatCompleteAfterTheDeadlineAsNotComplete() {
+        FutureTask<Integer> late = new FutureTask<Integer>(constant(1));
+        List<Future<Integer>> futures = Arrays.<Future<Integer>>asList(completed(1), late);
+        Matcher<Iterable<? extends Future<? extends Integer>>> matcher =
+            everyFutureThat(completesWith(equalTo(1)), within(10, MILLISECONDS));
+
+        assertFalse(matcher.matches(futures));
+        late.run();
+        assertEquals("not every future was complete within 10ms", mismatchDescription(matcher, futures));
+    }
+
+    private static <T> Callable<T> constant(final T value) {
+        return new Callable<T>() {
+            @Override public T call() { return value; }
+        };
+    }
+
+    private static <T> Future<T> completed(T value) {
+        FutureTask<T> future = new FutureTask<T>(constant(value));
+        future.run();
+        return future;
+    }
+
+    private static Future<Integer> failed() {
+        FutureTask<Integer> future = new FutureTask<Integer>(FAILING);
+        future.run();
+        return future;
+    }
+}
@@ -4,8 +4,17 @@ import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringStartsWith.startsWith;
 
 @SuppressWarnings("ResultOfMethodCallIgnored")
 public class FileMatchersTest extends AbstractMatcherTest {
@@ -85,6 +94,178 @@ public class FileMatchersTest extends AbstractMatcherTest {
         assertDoesNotMatch("doesn't match incorrect absolute path", FileMatchers.aFileWithAbsolutePath(equalTo("foo")), file);
     }
 
+    public void testAFileWithContent() throws Exception {
+        final File textFile = fileContaining("caf\u00e9\nau lait");
+        assertMatches("matches file content",
+                FileMatchers.aFileWithContent(equalTo((CharSequence) CharBuffer.wrap("caf\u00e9\nau lait"))), textFile);
+        assertDoesNotMatch("doesn't match different content",
+                FileMatchers.aFileWithContent(equalTo((CharSequence) CharBuffer.wrap("cafe"))), textFile);
+        assertTrue("reports unreadable file", mismatchDescription(
+                FileMatchers.aFileWithContent(equalTo((CharSequence) "x")), new File("foo")).startsWith("could not be read: "));
+    }
+
+    public void testReportsAFileTooLargeToDecodeIntoOneBufferBeforeReadingIt() throws Exception {
+        final File largeFile = new File(directory, "large");
+        try (RandomAccessFile raf = new RandomAccessFile(largeFile, "rw")) {
+            raf.setLength(MappedFileContent.MAX_DECODED_CHARS + 1L);
+        }
+        try {
+            assertMismatchDescription("could not be read: file of 1073741824 bytes may decode to 1073741824 characters,"
+                    + " more than the 1073741823 one buffer can hold; compare it with known text, which is read a window at a time",
+                    FileMatchers.aFileWithContent(equalTo((CharSequence) "x")), largeFile);
+        } finally {
+            largeFile.delete();
+        }
+    }
+
+    public void testAFileWithTextContent() throws Exception {
+        final File textFile = fileContaining("caf\u00e9\nau lait");
+        assertMatches("matches file content", FileMatchers.aFileWithContent("caf\u00e9\nau lait"), textFile);
+        assertMatches("matches empty content", FileMatchers.aFileWithContent(""), file);
+        assertMismatchDescription("content first differed at character 3: expected \"cafe\" but was \"caf\u00e9\\nau lait\"",
+                FileMatchers.aFileWithContent("cafe"), textFile);
+        assertMismatchDescription("content first differed at character 12: expected \"caf\u00e9\\nau lait, merci\" but was \"caf\u00e9\\nau lait\"",
+                FileMatchers.aFileWithContent("caf\u00e9\nau lait, merci"), textFile);
+        assertDescription("a file with content \"x\"", FileMatchers.aFileWithContent("x"));
+    }
+
+    public void testDescribesOnlyTheTextAroundTheFirstDifferenceInLargeFiles() throws Exception {
+        final StringBuilder content = new StringBuilder();
+        while (content.length() < 2 * MappedFileContent.CHAR_WINDOW) {
+            content.append("0123456789");
+        }
+        final File textFile = fileContaining(content.toString());
+        final int at = MappedFileContent.CHAR_WINDOW + 5;
+        final StringBuilder expected = new StringBuilder(content).replace(at, at + 1, "x");
+
+        assertMatches("matches content spanning windows", FileMatchers.aFileWithContent(content.toString()), textFile);
+        assertMismatchDescription("content first differed at character " + at
+                + ": expected \"...12345678901234567890x2345678901234567890...\""
+                + " but was \"...1234567890123456789012345678901234567890...\"",
+                FileMatchers.aFileWithContent(expected.toString()), textFile);
+    }
+
+    public void testAFileWithBytes() throws Exception {
+        final File textFile = fileContaining("abc");
+        assertMatches("matches file bytes",
+                FileMatchers.aFileWithBytes(equalTo(ByteBuffer.wrap(new byte[] {'a', 'b', 'c'}))), textFile);
+        assertDoesNotMatch("doesn't match different bytes",
+                FileMatchers.aFileWithBytes(equalTo(ByteBuffer.wrap(new byte[] {'a', 'b'}))), textFile);
+    }
+
+    public void testAFileContaining() throws Exception {
+        final StringBuilder content = new StringBuilder();
+        while (content.length() < MappedFileContent.CHAR_WINDOW - 2) {
+            content.append("abab");
+        }
+        content.append("needle");
+        final File textFile = fileContaining(content.toString());
+
+        assertMatches("matches substring across window boundary", FileMatchers.aFileContaining("abneedle"), textFile);
+        assertMatches("matches empty substring", FileMatchers.aFileContaining(""), file);
+        assertDoesNotMatch("doesn't match missing substring", FileMatchers.aFileContaining("haystack"), textFile);
+        assertMismatchDescription("did not contain \"x\"", FileMatchers.aFileContaining("x"), file);
+        assertDescription("a file containing \"x\"", FileMatchers.aFileContaining("x"));
+    }
+
+    public void testAFileWithLine() throws Exception {
+        final File textFile = fileContaining("first\r\nsecond line\nlast");
+        assertMatches("matches a line", FileMatchers.aFileWithLine(equalTo("second line")), textFile);
+        assertMatches("matches a CRLF terminated line", FileMatchers.aFileWithLine(equalTo("first")), textFile);
+        assertMatches("matches the unterminated last line", FileMatchers.aFileWithLine(equalTo("last")), textFile);
+        assertDoesNotMatch("doesn't match missing line", FileMatchers.aFileWithLine(equalTo("second")), textFile);
+        assertMismatchDescription("no line was a string starting with \"x\"", FileMatchers.aFileWithLine(startsWith("x")), textFile);
+    }
+
+    public void testAFileWithDigest() throws Exception {
+        final File textFile = fileContaining("test");
+        final String sha256 = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+        assertMatches("matches digest", FileMatchers.aFileWithDigest("SHA-256", sha256), textFile);
+        assertMatches("matches upper case digest", FileMatchers.aFileWithDigest("SHA-256", sha256.toUpperCase()), textFile);
+        assertDoesNotMatch("doesn't match different digest", FileMatchers.aFileWithDigest("SHA-256", sha256), file);
+        assertMismatchDescription("MD5 digest was \"098f6bcd4621d373cade4e832627b4f6\"",
+                FileMatchers.aFileWithDigest("MD5", "00"), textFile);
+        assertDescription("a file with MD5 digest \"00\"", FileMatchers.aFileWithDigest("MD5", "00"));
+    }
+
+    public void testAFileWithDigestRejectsUnknownAlgorithm() {
+        try {
+            FileMatchers.aFileWithDigest("NO-SUCH-DIGEST", "00");
+            fail("Expected exception");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    public void testAFileWithCrc32C() throws Exception {
+        final File textFile = fileContaining("123456789");
+
+        assertMatches("matches checksum", FileMatchers.aFileWithCrc32C(0xE3069283L), textFile);
+        assertMatches("matches checksum of empty file", FileMatchers.aFileWithCrc32C(0L), file);
+        assertMismatchDescription("CRC32C was 0xe3069283", FileMatchers.aFileWithCrc32C(1L), textFile);
+        assertDescription("a file with CRC32C 0x00000001", FileMatchers.aFileWithCrc32C(1L));
+    }
+
+    public void testADirectoryContaining() throws Exception {
+        fileContaining("x");
+        assertMatches("matches contained paths", FileMatchers.aDirectoryContaining("myFile", "content.txt"), directory);
+        assertMismatchDescription("was missing \"foo\", \"bar/baz\"",
+                FileMatchers.aDirectoryContaining("myFile", "foo", "bar/baz"), directory);
+        assertMismatchDescription("is not a directory", FileMatchers.aDirectoryContaining("myFile"), file);
+        assertDescription("a directory containing \"a\", \"b\"", FileMatchers.aDirectoryContaining("a", "b"));
+    }
+
+    public void testADirectoryWithEveryFile() throws Exception {
+        final File subdirectory = new File(directory, "sub");
+        subdirectory.mkdir();
+        new File(subdirectory, "nested").createNewFile();
+
+        assertMatches("matches when every file matches", FileMatchers.aDirectoryWithEveryFile(FileMatchers.aFileWithSize(0L)), directory);
+        fileContaining("abc");
+        assertMismatchDescription("had 1 mismatching entry:\n          content.txt size was <3L>",
+                FileMatchers.aDirectoryWithEveryFile(FileMatchers.aFileWithSize(0L)), directory);
+        assertMismatchDescription("had 1 mismatching entry:\n          nested name was \"nested\"",
+                FileMatchers.aDirectoryWithEveryFile(FileMatchers.aFileNamed(equalTo("other")), FileTreeScan.CALLING_THREAD, 1),
+                subdirectory);
+        final String mismatch = mismatchDescription(
+                FileMatchers.aDirectoryWithEveryFile(FileMatchers.aFileNamed(equalTo("other")), FileTreeScan.CALLING_THREAD, 1),
+                directory);
+        assertTrue(mismatch, mismatch.startsWith("stopped after 1 mismatching entry:"));
+        assertEquals(mismatch, 2, mismatch.split("\n").length);
+        assertDescription("a directory in which every file is A file with size <0L>",
+                FileMatchers.aDirectoryWithEveryFile(FileMatchers.aFileWithSize(0L)));
+    }
+
+    public void testADirectoryTreeMatchingInParallel() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            final File subdirectory = new File(directory, "sub" + i);
+            subdirectory.mkdir();
+            new File(subdirectory, "file" + i).createNewFile();
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertMatches("matches when every entry matches",
+                    FileMatchers.aDirectoryTreeMatching(FileMatchers.anExistingDirectory(), FileMatchers.anExistingFile(), executor, 5),
+                    directory);
+            final String mismatch = mismatchDescription(
+                    FileMatchers.aDirectoryTreeMatching(FileMatchers.anExistingFile(), FileMatchers.anExistingFile(), executor, 5),
+                    directory);
+            assertTrue(mismatch, mismatch.startsWith("stopped after 5 mismatching entries:"));
+            assertEquals(mismatch, 6, mismatch.split("\n").length);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private File fileContaining(String content) throws IOException {
+        final File textFile = new File(directory, "content.txt");
+        try (FileOutputStream out = new FileOutputStream(textFile)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return textFile;
+    }
+
     @Override
     protected Matcher<?> createMatcher() {
         return FileMatchers.aFileWithSize(1L);
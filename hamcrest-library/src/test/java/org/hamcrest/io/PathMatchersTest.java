@@ -0,0 +1,81 @@
+package org.hamcrest.io;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.Matcher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+
+import static org.hamcrest.core.IsCollectionContaining.hasItem;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class PathMatchersTest extends AbstractMatcherTest {
+
+    private Path directory;
+    private Path file;
+    private Path missing;
+
+    @Override
+    protected void setUp() throws Exception {
+        directory = Files.createTempDirectory("myDir");
+        file = Files.write(directory.resolve("myFile"), new byte[] {1, 2, 3});
+        missing = directory.resolve("missing");
+    }
+
+    public void testAnExistingDirectory() {
+        assertMatches("matches existing directory", PathMatchers.anExistingDirectory(), directory);
+        assertDoesNotMatch("doesn't match existing file", PathMatchers.anExistingDirectory(), file);
+        assertDoesNotMatch("doesn't match missing file", PathMatchers.anExistingDirectory(), missing);
+    }
+
+    public void testAnExistingFileOrDirectory() {
+        assertMatches("matches existing file", PathMatchers.anExistingFileOrDirectory(), file);
+        assertMatches("matches existing directory", PathMatchers.anExistingFileOrDirectory(), directory);
+        assertMismatchDescription("does not exist", PathMatchers.anExistingFileOrDirectory(), missing);
+    }
+
+    public void testAnExistingFile() {
+        assertMatches("matches existing file", PathMatchers.anExistingFile(), file);
+        assertDoesNotMatch("doesn't match existing directory", PathMatchers.anExistingFile(), directory);
+        assertMismatchDescription("is not a file", PathMatchers.anExistingFile(), missing);
+    }
+
+    public void testAReadableAndWritableFile() {
+        assertMatches("matches readable file", PathMatchers.aReadableFile(), file);
+        assertMatches("matches writable file", PathMatchers.aWritableFile(), file);
+        assertMismatchDescription("cannot be read", PathMatchers.aReadableFile(), missing);
+        assertMismatchDescription("cannot be written to", PathMatchers.aWritableFile(), missing);
+    }
+
+    public void testAFileWithSize() {
+        assertMatches("matches file size", PathMatchers.aFileWithSize(3L), file);
+        assertMismatchDescription("size was <3L>", PathMatchers.aFileWithSize(equalTo(4L)), file);
+        assertMismatchDescription("does not exist", PathMatchers.aFileWithSize(3L), missing);
+    }
+
+    public void testAFileWithPosixPermissions() {
+        if (Files.getFileAttributeView(file, PosixFileAttributeView.class) != null) {
+            assertMatches("matches permissions", PathMatchers.aFileWithPosixPermissions(hasItem(PosixFilePermission.OWNER_READ)), file);
+        }
+        assertMismatchDescription("has no POSIX permissions", PathMatchers.aFileWithPosixPermissions(hasItem(PosixFilePermission.OWNER_READ)), missing);
+    }
+
+    public void testAPathWithCombinesChecks() throws IOException {
+        final Matcher<Path> matcher = PathMatchers.aPathWith(
+                PathMatchers.anExistingFile(), PathMatchers.aReadableFile(), PathMatchers.aFileWithSize(3L));
+
+        assertMatches("matches when every check passes", matcher, file);
+        assertMismatchDescription("an existing File is not a file", matcher, directory);
+        assertMismatchDescription("A file with size <4L> size was <3L>",
+                PathMatchers.aPathWith(PathMatchers.anExistingFile(), PathMatchers.aFileWithSize(4L)), file);
+        assertDescription("(an existing File and a readable File and A file with size <3L>)", matcher);
+    }
+
+    @Override
+    protected Matcher<?> createMatcher() {
+        return PathMatchers.aPathWith(PathMatchers.anExistingFile(), PathMatchers.aFileWithSize(1L));
+    }
+}
@@ -0,0 +1,132 @@
+package org.hamcrest.metrics;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
+import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.metrics.InstrumentedMatcher.instrumented;
+import static org.junit.Assert.*;
+
+public final class MatcherMetricsTest {
+
+    @After public void
+    stopRecording() {
+        MatcherMetrics.unregisterMBeans();
+        MatcherMetrics.disable();
+        MatcherMetrics.reset();
+    }
+
+    @Test public void
+    behavesLikeTheWrappedMatcher() {
+        final Matcher<String> matcher = instrumented(equalTo("a"));
+
+        assertMatches(matcher, "a");
+        assertDoesNotMatch(matcher, "b");
+        assertDescription("\"a\"", matcher);
+        assertMismatchDescription("was \"b\"", matcher, "b");
+    }
+
+    @Test public void
+    recordsNothingWhileDisabled() {
+        final Matcher<String> matcher = instrumented("disabled", equalTo("a"));
+
+        matcher.matches("a");
+
+        assertNull(MatcherMetrics.snapshot("disabled"));
+    }
+
+    @Test public void
+    countsPassesAndFailuresPerTag() {
+        MatcherMetrics.enable();
+        final Matcher<String> matcher = instrumented("counted", equalTo("a"));
+
+        matcher.matches("a");
+        matcher.matches("a");
+        matcher.matches("b");
+        instrumented("counted", equalTo("b")).matches("b");
+
+        final MatcherStatsSnapshot stats = MatcherMetrics.snapshot("counted");
+        assertEquals(4, stats.getInvocations());
+        assertEquals(3, stats.getPasses());
+        assertEquals(1, stats.getFailures());
+        assertEquals(0, stats.getErrors());
+        assertTrue(stats.getMaxNanos() <= stats.getTotalNanos());
+    }
+
+    @Test public void
+    tagsByDescriptionByDefault() {
+        MatcherMetrics.enable();
+
+        instrumented(equalTo("described")).matches("x");
+
+        assertEquals(1, MatcherMetrics.snapshot("\"described\"").getFailures());
+    }
+
+    @Test public void
+    countsExceptionsAsErrors() {
+        MatcherMetrics.enable();
+        final Matcher<Object> matcher = instrumented("throwing", new BaseMatcher<Object>() {
+            @Override public boolean matches(Object item) { throw new IllegalStateException("boom"); }
+            @Override public void describeTo(Description description) { }
+        });
+
+        try {
+            matcher.matches("x");
+            fail("should have thrown");
+        } catch (IllegalStateException expected) {
+        }
+
+        assertEquals(1, MatcherMetrics.snapshot("throwing").getErrors());
+    }
+
+    @Test public void
+    resetsCountsButKeepsTags() {
+        MatcherMetrics.enable();
+        instrumented("reset", equalTo("a")).matches("a");
+
+        MatcherMetrics.reset();
+
+        assertEquals(0, MatcherMetrics.snapshot("reset").getInvocations());
+    }
+
+    @Test public void
+    estimatesPercentilesFromPowerOfTwoBuckets() {
+        final MatcherStats stats = new MatcherStats("histogram");
+        for (int i = 0; i < 98; i++) {
+            stats.recordMatch(true, 100);
+        }
+        stats.recordMatch(true, 5000);
+        stats.recordMatch(false, 70000);
+
+        final MatcherStatsSnapshot snapshot = stats.snapshot();
+        assertEquals(127, snapshot.getMedianNanos());
+        assertEquals(8191, snapshot.getNinetyNinthPercentileNanos());
+        assertEquals(70000, snapshot.percentileNanos(100));
+        assertEquals(0, new MatcherStats("empty").snapshot().getMedianNanos());
+    }
+
+    @Test public void
+    exposesEachTagThroughJmx() throws Exception {
+        MatcherMetrics.enable();
+        instrumented("before registration", equalTo("a")).matches("a");
+        MatcherMetrics.registerMBeans();
+        instrumented("after registration", equalTo("a")).matches("b");
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertEquals(1L, server.getAttribute(MatcherMetrics.objectNameFor("before registration"), "Passes"));
+        assertEquals(1L, server.getAttribute(MatcherMetrics.objectNameFor("after registration"), "Failures"));
+
+        MatcherMetrics.unregisterMBeans();
+        assertFalse(server.isRegistered(MatcherMetrics.objectNameFor("before registration")));
+    }
+}
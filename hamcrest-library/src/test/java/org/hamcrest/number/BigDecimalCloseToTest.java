@@ -6,6 +6,7 @@ import org.hamcrest.Matcher;
 import java.math.BigDecimal;
 
 import static org.hamcrest.number.BigDecimalCloseTo.closeTo;
+import static org.hamcrest.number.BigDecimalCloseTo.closeToRelatively;
 
 public class BigDecimalCloseToTest  extends AbstractMatcherTest {
   private final Matcher<BigDecimal> matcher = closeTo(new BigDecimal("1.0"), new BigDecimal("0.5"));
@@ -38,6 +39,22 @@ public class BigDecimalCloseToTest  extends AbstractMatcherTest {
     assertMismatchDescription("<0.000000> differed by <0.5> more than delta <0.5>", matcher, new BigDecimal("0.000000"));
   }
 
+  public void testComparesExactlyBeyondDecimal128Precision() {
+    final Matcher<BigDecimal> precise = closeTo(new BigDecimal("1.0000000000000000000000000000000000001"), new BigDecimal("1E-37"));
+
+    assertTrue(precise.matches(new BigDecimal("1.0000000000000000000000000000000000002")));
+    assertFalse(precise.matches(new BigDecimal("1.0000000000000000000000000000000000003")));
+  }
+
+  public void testMatchesWithinARelativeError() {
+    final Matcher<BigDecimal> relative = closeToRelatively(new BigDecimal("-200"), new BigDecimal("0.01"));
+
+    assertTrue(relative.matches(new BigDecimal("-202")));
+    assertTrue(relative.matches(new BigDecimal("-198.00")));
+    assertDoesNotMatch("too small", relative, new BigDecimal("-202.01"));
+    assertDescription("a numeric value within <2.00> of <-200>", relative);
+  }
+
   public void test_is_self_describing() {
     assertDescription("a numeric value within <0.5> of <1.0>", matcher);
   }
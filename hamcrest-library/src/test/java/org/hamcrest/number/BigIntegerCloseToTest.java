@@ -0,0 +1,39 @@
+package org.hamcrest.number;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.Matcher;
+
+import java.math.BigInteger;
+
+import static org.hamcrest.number.BigIntegerCloseTo.closeTo;
+
+public class BigIntegerCloseToTest extends AbstractMatcherTest {
+  private final Matcher<BigInteger> matcher = closeTo(BigInteger.valueOf(10), BigInteger.valueOf(2));
+
+  @Override
+  protected Matcher<?> createMatcher() {
+    return closeTo(BigInteger.ONE, BigInteger.ONE);
+  }
+
+  public void testMatchesIfArgumentIsEqualToABigIntegerWithinSomeError() {
+    assertMatches("10", matcher, BigInteger.valueOf(10));
+    assertMatches("8", matcher, BigInteger.valueOf(8));
+    assertMatches("12", matcher, BigInteger.valueOf(12));
+
+    assertDoesNotMatch("too large", matcher, BigInteger.valueOf(13));
+    assertMismatchDescription("<15> differed by <3> more than delta <2>", matcher, BigInteger.valueOf(15));
+    assertMismatchDescription("<7> differed by <1> more than delta <2>", matcher, BigInteger.valueOf(7));
+  }
+
+  public void testRejectsANegativeError() {
+    try {
+      closeTo(BigInteger.ONE, BigInteger.valueOf(-1));
+      fail("should have thrown");
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testIsSelfDescribing() {
+    assertDescription("a numeric value within <2> of <10>", matcher);
+  }
+}
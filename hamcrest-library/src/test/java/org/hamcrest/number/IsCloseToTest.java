@@ -4,6 +4,8 @@ import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 
 import static org.hamcrest.number.IsCloseTo.closeTo;
+import static org.hamcrest.number.IsCloseTo.closeToRelatively;
+import static org.hamcrest.number.IsCloseTo.closeToUlps;
 
 public class IsCloseToTest extends AbstractMatcherTest {
   private final Matcher<Double> matcher = closeTo(1.0d, 0.5d);
@@ -25,8 +27,51 @@ public class IsCloseToTest extends AbstractMatcherTest {
         assertMismatchDescription("<0.1> differed by <0.4> more than delta <0.5>", matcher, 0.1);
     }
 
+    public void test_keepsTheRoundingOfTheDifferenceFromTheExpectedValue() {
+        assertMatches("difference rounds down", closeTo(-3.61622403402907E-4, 4.20465272087327E-4), 5.884286868442001E-5);
+        assertDoesNotMatch("0.4", closeTo(0.3, 0.1), 0.4);
+        assertDoesNotMatch("1.1", closeTo(1.0, 0.1), 1.1);
+        assertDoesNotMatch("0.30000000000000004", closeTo(0.1, 0.2), 0.30000000000000004);
+    }
+
     public void test_is_self_describing() {
         assertDescription("a numeric value within <0.5> of <1.0>", matcher);
     }
 
+    public void test_doesNotMatchNaN() {
+        assertDoesNotMatch("NaN", matcher, Double.NaN);
+        assertDoesNotMatch("NaN operand", closeTo(Double.NaN, 1.0), Double.NaN);
+    }
+
+    public void test_matchesWithinARelativeError() {
+        final Matcher<Double> relative = closeToRelatively(-200.0, 0.01);
+
+        assertMatches("lower", relative, -202.0);
+        assertMatches("upper", relative, -198.0);
+        assertDoesNotMatch("too small", relative, -202.5);
+        assertDescription("a numeric value within <2.0> of <-200.0>", relative);
+    }
+
+    public void test_matchesWithinSomeUnitsInTheLastPlace() {
+        final Matcher<Double> ulps = closeToUlps(0.3, 1);
+
+        assertMatches("0.1 + 0.2", ulps, 0.1 + 0.2);
+        assertMatches("one below", ulps, Math.nextAfter(0.3, 0.0));
+        assertDoesNotMatch("two above", ulps, Math.nextUp(Math.nextUp(0.3)));
+        assertMismatchDescription("<0.30000000000000016> differed by 3 ulps", ulps, Math.nextUp(Math.nextUp(Math.nextUp(0.3))));
+        assertDescription("a numeric value within 1 ulps of <0.3>", ulps);
+    }
+
+    public void test_countsUnitsInTheLastPlaceAcrossZero() {
+        assertMatches("negative zero", closeToUlps(0.0, 0), -0.0);
+        assertMatches("smallest negative", closeToUlps(Double.MIN_VALUE, 2), -Double.MIN_VALUE);
+        assertDoesNotMatch("too far", closeToUlps(Double.MIN_VALUE, 1), -Double.MIN_VALUE);
+    }
+
+    public void test_clampsUnitsInTheLastPlaceAtInfinity() {
+        assertMatches("max", closeToUlps(Double.MAX_VALUE, Long.MAX_VALUE), Double.POSITIVE_INFINITY);
+        assertMatches("min", closeToUlps(-Double.MAX_VALUE, Long.MAX_VALUE), Double.NEGATIVE_INFINITY);
+        assertDoesNotMatch("NaN", closeToUlps(0.0, Long.MAX_VALUE), Double.NaN);
+    }
+
 }
@@ -0,0 +1,44 @@
+package org.hamcrest.number;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.Matcher;
+
+import static org.hamcrest.number.LongCloseTo.closeTo;
+
+public class LongCloseToTest extends AbstractMatcherTest {
+  private final Matcher<Long> matcher = closeTo(10L, 2L);
+
+  @Override
+  protected Matcher<?> createMatcher() {
+    return closeTo(1L, 1L);
+  }
+
+  public void testMatchesIfArgumentIsEqualToALongWithinSomeError() {
+    assertMatches("10", matcher, 10L);
+    assertMatches("8", matcher, 8L);
+    assertMatches("12", matcher, 12L);
+
+    assertDoesNotMatch("too large", matcher, 13L);
+    assertMismatchDescription("<15L> differed by <3> more than delta <2L>", matcher, 15L);
+    assertMismatchDescription("<7L> differed by <1> more than delta <2L>", matcher, 7L);
+  }
+
+  public void testClampsBoundsInsteadOfOverflowing() {
+    assertMatches("max", closeTo(Long.MAX_VALUE - 1, 5L), Long.MAX_VALUE);
+    assertMatches("min", closeTo(Long.MIN_VALUE + 1, 5L), Long.MIN_VALUE);
+    assertMismatchDescription("<-9223372036854775808L> differed by <18446744073709551613> more than delta <2L>",
+        closeTo(Long.MAX_VALUE, 2L), Long.MIN_VALUE);
+  }
+
+  public void testRejectsANegativeError() {
+    try {
+      closeTo(1L, -1L);
+      fail("should have thrown");
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testIsSelfDescribing() {
+    assertDescription("a numeric value within <2L> of <10L>", matcher);
+  }
+}
@@ -56,4 +56,28 @@ public class MatchesPatternTest {
         Matcher<?> m = MatchesPattern.matchesPattern("a[bc](d|e)");
         assertDescription("a string matching the pattern 'a[bc](d|e)'", m );
     }
+
+    @Test
+    public void canBeReusedForManyStrings() {
+        final Matcher<String> matcher = MatchesPattern.matchesPattern("a+");
+        assertThat("aaa", matcher);
+        assertDoesNotMatch(matcher, "aab");
+        assertThat("a", matcher);
+    }
+
+    @Test
+    public void findsPatternAnywhereInString() {
+        final Matcher<String> matcher = MatchesPattern.containsPattern("o+b");
+        assertThat("myfoobar", matcher);
+        assertDoesNotMatch(matcher, "myfoocar");
+        assertDescription("a string containing the pattern 'o+b'", matcher);
+    }
+
+    @Test
+    public void matchesPatternAtStartOfString() {
+        final Matcher<String> matcher = MatchesPattern.startsWithPattern(Pattern.compile("m[xy]"));
+        assertThat("myfoobar", matcher);
+        assertDoesNotMatch(matcher, "amyfoobar");
+        assertDescription("a string starting with the pattern 'm[xy]'", matcher);
+    }
 }
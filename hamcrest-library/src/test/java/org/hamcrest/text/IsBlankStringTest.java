@@ -33,12 +33,14 @@ public final class IsBlankStringTest {
     matchesBlankStringAppropriately() {
         assertMatches(blankString(), " \t");
         assertMatches(blankOrNullString(), " \t");
+        assertMatches(blankString(), "\r\n\f\013");
     }
 
     @Test public void
     doesNotMatchFilledString() {
         assertDoesNotMatch(blankString(), "a");
         assertDoesNotMatch(blankOrNullString(), "a");
+        assertDoesNotMatch(blankString(), "  a  ");
     }
 
     @Test public void
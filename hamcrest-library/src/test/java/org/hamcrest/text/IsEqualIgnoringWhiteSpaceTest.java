@@ -31,6 +31,16 @@ public class IsEqualIgnoringWhiteSpaceTest extends AbstractMatcherTest {
         assertThat("Hello Wo rld how are we?", not(matcher));
     }
 
+    public void testFailsIfExaminedStringIsAPrefixOrExtensionOfExpected() {
+        assertThat("Hello World how are", not(matcher));
+        assertThat("Hello World how are we? really", not(matcher));
+        assertThat("", not(matcher));
+    }
+
+    public void testIgnoresCaseLikeTheStrippedComparison() {
+        assertThat("hello world HOW are we?", matcher);
+    }
+
     public void testFailsIfMatchingAgainstNull() {
         assertThat(null, not(matcher));
     }
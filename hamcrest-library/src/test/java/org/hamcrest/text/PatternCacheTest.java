@@ -0,0 +1,35 @@
+package org.hamcrest.text;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class PatternCacheTest {
+
+    @Test public void
+    returnsTheSamePatternForTheSameExpressionAndFlags() {
+        assertSame(PatternCache.compile("a[bc]+", 0), PatternCache.compile("a[bc]+", 0));
+    }
+
+    @Test public void
+    distinguishesPatternsByFlags() {
+        final Pattern caseSensitive = PatternCache.compile("abc", 0);
+        final Pattern caseInsensitive = PatternCache.compile("abc", Pattern.CASE_INSENSITIVE);
+
+        assertNotSame(caseSensitive, caseInsensitive);
+        assertEquals(Pattern.CASE_INSENSITIVE, caseInsensitive.flags());
+    }
+
+    @Test public void
+    isBounded() {
+        for (int i = 0; i < PatternCache.MAX_ENTRIES * 2; i++) {
+            PatternCache.compile("x{" + i + "}", 0);
+        }
+        assertTrue(PatternCache.size() <= PatternCache.MAX_ENTRIES);
+    }
+}
@@ -0,0 +1,228 @@
+package org.hamcrest.xml;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.AbstractMatcherTest.*;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.xml.HasStreamingXPath.hasXPathInFile;
+import static org.hamcrest.xml.HasStreamingXPath.hasXPathInSource;
+import static org.hamcrest.xml.HasStreamingXPath.hasXPathInStream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class HasStreamingXPathTest {
+
+    private static final String XML = ""
+            + "<root type='food'>\n"
+            + "  <something id='a'><cheese>Edam</cheese></something>\n"
+            + "  <something id='b'><cheese>Cheddar</cheese><![CDATA[ & more]]></something>\n"
+            + "  <f:foreignSomething xmlns:f=\"http://cheese.com\" milk=\"camel\">Caravane</f:foreignSomething>\n"
+            + "  <nested><something id='c'><cheese>Brie</cheese></something></nested>\n"
+            + "  <emptySomething />\n"
+            + "</root>\n";
+
+    private final NamespaceContext ns = new NamespaceContext() {
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return ("cheese".equals(prefix) ? "http://cheese.com" : null);
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            return ("http://cheese.com".equals(namespaceURI) ? "cheese" : null);
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            return Collections.singleton("cheese").iterator();
+        }
+    };
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<InputStream> matcher = hasXPathInStream("//irrelevant");
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    streamsChildAndDescendantPathsWithPredicates() {
+        assertStreamedLikeDom("/root/something/cheese", "Edam");
+        assertStreamedLikeDom("//something[@id='b']/cheese", "Cheddar");
+        assertStreamedLikeDom("//something[@id = \"c\"]", "Brie");
+        assertStreamedLikeDom("/root/something[@id='b']", "Cheddar & more");
+        assertStreamedLikeDom("//cheese[text()='Brie']", "Brie");
+        assertStreamedLikeDom("/root/@type", "food");
+        assertStreamedLikeDom("//cheese:foreignSomething/@milk", "camel");
+        assertStreamedLikeDom("//cheese:foreignSomething/text()", "Caravane");
+        assertStreamedLikeDom("/root/*/cheese[text()='Edam']", "Edam");
+        assertStreamedLikeDom("//something[@id]/cheese", "Edam");
+        assertStreamedLikeDom("//emptySomething", "");
+        assertStreamedLikeDom("//missing", "");
+    }
+
+    @Test public void
+    selectsNestedElementsInDocumentOrder() {
+        assertStreamedLikeDom("<r><a><a>inner</a>outer</a></r>", "//a/text()", "inner");
+        assertStreamedLikeDom("<r><a>first<a>inner</a></a></r>", "//a/text()", "first");
+        assertStreamedLikeDom("<r><a><a>inner</a>outer</a></r>", "//a", "innerouter");
+        assertStreamedLikeDom("<r><a><a>inner</a>outer</a></r>", "//a[text()='inner']", "inner");
+        assertStreamedLikeDom("<r><a><a>inner</a>outer</a></r>", "//a[text()='outer']", "innerouter");
+        assertStreamedLikeDom("<r><a>t<a>inner</a>inner</a></r>", "//a[text()='inner']/text()", "t");
+        assertStreamedLikeDom("<r><a id='1'><a id='2'/></a></r>", "//a/@id", "1");
+        assertStreamedLikeDom("<r><a><a id='2' /></a></r>", "//a/@id", "2");
+    }
+
+    @Test public void
+    keepsOnlyTheOpenCandidatesOfALargeDocument() {
+        final StringBuilder xml = new StringBuilder("<r>");
+        for (int i = 0; i < 100000; i++) {
+            xml.append("<e><f/></e>");
+        }
+        xml.append("<e>last</e></r>");
+
+        assertMatches(hasXPathInStream("//*/text()", equalTo("last")), stream(xml.toString()));
+        assertMatches(hasXPathInStream("//e[text()='last']", equalTo("last")), stream(xml.toString()));
+    }
+
+    @Test public void
+    fallsBackToDomForOtherExpressions() {
+        final HasStreamingXPath<?> positional = (HasStreamingXPath<?>) hasXPathInStream("/root/something[2]/cheese", equalTo("Cheddar"));
+
+        assertFalse(positional.isStreaming());
+        assertMatches(hasXPathInStream("/root/something[2]/cheese", equalTo("Cheddar")), stream(XML));
+        assertMatches(hasXPathInStream("count(//cheese)", equalTo("3")), stream(XML));
+    }
+
+    @Test public void
+    matchesNodeExistence() {
+        assertMatches(hasXPathInStream("//nested/something"), stream(XML));
+        assertMatches(hasXPathInStream("//cheese:foreignSomething", ns, equalTo("Caravane")), stream(XML));
+        assertDoesNotMatch(hasXPathInStream("//something[@id='d']"), stream(XML));
+    }
+
+    @Test public void
+    stopsReadingOnceTheAnswerIsKnown() {
+        assertMatches(hasXPathInStream("//something[@id='a']/cheese", equalTo("Edam")),
+                      stream("<root><something id='a'><cheese>Edam</cheese></something><broken"));
+    }
+
+    @Test public void
+    readsSources() {
+        assertMatches(hasXPathInSource("//something[@id='b']/cheese", equalTo("Cheddar")),
+                      (Source) new StreamSource(new StringReader(XML)));
+        assertMatches(hasXPathInSource("//something[@id='b']/cheese", equalTo("Cheddar")),
+                      (Source) new DOMSource(parse(XML)));
+    }
+
+    @Test public void
+    readsFiles() throws Exception {
+        final Path file = Files.createTempFile("document", ".xml");
+        Files.write(file, XML.getBytes(StandardCharsets.UTF_8));
+        try {
+            assertMatches(hasXPathInFile("//nested/something/cheese", containsString("Bri")), file);
+            assertDoesNotMatch(hasXPathInFile("//nested/something/cheese", equalTo("Edam")), file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test public void
+    doesNotReadExternalDtdsWhenParsingToADom() throws Exception {
+        final Path dtd = Files.createTempFile("entities", ".dtd");
+        Files.write(dtd, "<!ENTITY cheese 'Stilton'>".getBytes(StandardCharsets.UTF_8));
+        try {
+            final String xml = "<!DOCTYPE root SYSTEM '" + dtd.toUri() + "'><root><cheese>&cheese;</cheese></root>";
+            final Matcher<InputStream> matcher = hasXPathInStream("/root/cheese[1]", equalTo("Stilton"));
+
+            assertFalse(((HasStreamingXPath<?>) matcher).isStreaming());
+            assertDoesNotMatch(matcher, stream(xml));
+        } finally {
+            Files.delete(dtd);
+        }
+    }
+
+    @Test public void
+    describesItself() {
+        assertDescription("an XML document with XPath /some/path \"Cheddar\"",
+                          hasXPathInStream("/some/path", equalTo("Cheddar")));
+        assertDescription("an XML document with XPath /some/path", hasXPathInFile("/some/path"));
+    }
+
+    @Test public void
+    describesMismatchOfAStreamThatHasAlreadyBeenRead() {
+        final Matcher<InputStream> valueMatcher = hasXPathInStream("//something[1]/cheese", equalTo("parmesan"));
+        final InputStream in = stream(XML);
+        assertFalse(valueMatcher.matches(in));
+        assertEquals("was \"Edam\"", mismatchDescription(valueMatcher, in));
+
+        assertMismatchDescription("xpath returned no results.", hasXPathInStream("//honky"), stream(XML));
+    }
+
+    @Test public void
+    describesMismatchOfADocumentThatCanBeReadAgainByReadingItAgain() throws Exception {
+        final Path file = Files.createTempFile("document", ".xml");
+        Files.write(file, XML.getBytes(StandardCharsets.UTF_8));
+        try {
+            final Matcher<Source> matcher = hasXPathInSource("//nested/something/cheese", equalTo("Edam"));
+            final Source source = new StreamSource(file.toUri().toString());
+
+            assertFalse(matcher.matches(source));
+            assertEquals("was \"Brie\"", mismatchDescription(matcher, source));
+            assertMismatchDescription("was \"Brie\"", matcher, source);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test public void
+    describesUnreadableDocument() {
+        final String mismatch = mismatchDescription(hasXPathInStream("//honky"), stream("<root>"));
+        assertTrue(mismatch, !mismatch.isEmpty());
+    }
+
+    private void assertStreamedLikeDom(String xPath, String expected) {
+        assertStreamedLikeDom(XML, xPath, expected);
+    }
+
+    private void assertStreamedLikeDom(String xml, String xPath, String expected) {
+        final HasStreamingXPath<?> streaming = (HasStreamingXPath<?>) hasXPathInStream(xPath, ns, equalTo(expected));
+
+        assertTrue(xPath + " should stream", streaming.isStreaming());
+        assertMatches(xPath, hasXPathInStream(xPath, ns, equalTo(expected)), stream(xml));
+        assertMatches(xPath, HasXPath.hasXPath(xPath, ns, equalTo(expected)), parse(xml));
+    }
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Document parse(String xml) {
+        try {
+            final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            return factory.newDocumentBuilder().parse(stream(xml));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
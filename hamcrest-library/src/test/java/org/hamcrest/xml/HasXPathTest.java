@@ -11,12 +11,15 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.ByteArrayInputStream;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.AbstractMatcherTest.*;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNot.not;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.hamcrest.xml.HasXPath.hasXPath;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 /**
@@ -133,6 +136,38 @@ public final class HasXPathTest {
         assertMismatchDescription("was \"Edam\"", hasXPath("//something[1]/cheese", equalTo("parmesan")), xml);
     }
 
+    @Test public void
+    sharesCompiledExpressionsBetweenMatchers() throws Exception {
+        assertSame(CompiledXPath.compile("//something[@id='a']/cheese", null),
+                   CompiledXPath.compile("//something[@id='a']/cheese", null));
+    }
+
+    @Test public void
+    canBeSharedBetweenThreads() throws Exception {
+        final Matcher<Node> matcher = hasXPath("/root/something[2]/cheese", equalTo("Cheddar"));
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override public void run() {
+                    try {
+                        final Document document = parse("<root><something/><something><cheese>Cheddar</cheese></something></root>");
+                        for (int j = 0; j < 100; j++) {
+                            assertMatches(matcher, document);
+                        }
+                    } catch (Throwable e) {
+                        failure.set(e);
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get());
+    }
+
     private static Document parse(String xml) {
         try {
             DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
@@ -0,0 +1,120 @@
+package org.hamcrest.xml;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.AbstractMatcherTest.*;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.xml.HasXPaths.hasXPaths;
+
+public final class HasXPathsTest {
+
+    private final Document xml = parse(""
+            + "<root type='food'>\n"
+            + "  <something id='a'><cheese>Edam</cheese></something>\n"
+            + "  <something id='b'><cheese>Cheddar</cheese></something>\n"
+            + "  <f:foreignSomething xmlns:f=\"http://cheese.com\" milk=\"camel\">Cara<![CDATA[vane]]></f:foreignSomething>\n"
+            + "  <emptySomething />\n"
+            + "</root>\n"
+            );
+
+    private final NamespaceContext ns = new NamespaceContext() {
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return ("cheese".equals(prefix) ? "http://cheese.com" : null);
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            return ("http://cheese.com".equals(namespaceURI) ? "cheese" : null);
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            return Collections.singleton("cheese").iterator();
+        }
+    };
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<Node> matcher = hasXPaths().and("//irrelevant");
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    appliesEveryMatcherToItsXPath() {
+        assertMatches(hasXPaths(ns)
+                .and("/root/@type", equalTo("food"))
+                .and("//something[@id='b']/cheese", equalTo("Cheddar"))
+                .and("//cheese:foreignSomething/text()", equalTo("Caravane"))
+                .and("//cheese:foreignSomething/@milk", equalTo("camel"))
+                .and("/root/something[2]/cheese", equalTo("Cheddar"))
+                .and("count(//something)", equalTo("2"))
+                .and("//emptySomething")
+                .and("//something/cheese", containsString("dam")), xml);
+    }
+
+    @Test public void
+    selectsNestedElementsOfTheSameNameInDocumentOrder() {
+        final Document nested = parse("<r><a>t<a>inner</a>outer</a><a id='2'/></r>");
+
+        assertMatches(hasXPaths()
+                .and("//a/text()", equalTo("t"))
+                .and("//a/a/text()", equalTo("inner"))
+                .and("//a", equalTo("tinnerouter"))
+                .and("//a[text()='inner']", equalTo("inner"))
+                .and("//a[text()='outer']", equalTo("tinnerouter"))
+                .and("//a[text()='outer']/text()", equalTo("t"))
+                .and("//a/@id", equalTo("2")), nested);
+        assertMatches(HasXPath.hasXPath("//a[text()='outer']/text()", equalTo("t")), nested);
+        assertMatches(hasXPaths().and("//a/text()", equalTo("inner")).and("//a", equalTo("innerouter")),
+                      parse("<r><a><a>inner</a>outer</a></r>"));
+    }
+
+    @Test public void
+    appliesXPathsToTheDocumentOfAnElement() {
+        assertMatches(hasXPaths().and("/root/something/cheese", equalTo("Edam")), xml.getDocumentElement().getFirstChild());
+    }
+
+    @Test public void
+    reportsEveryFailingXPath() {
+        assertMismatchDescription("3 of 4 XPaths failed:\n"
+                        + "          //something[@id='a']/cheese was \"Edam\"\n"
+                        + "          /root/something[2]/cheese was \"Cheddar\"\n"
+                        + "          //honky xpath returned no results.",
+                hasXPaths()
+                        .and("/root/@type", equalTo("food"))
+                        .and("//something[@id='a']/cheese", equalTo("Cheddar"))
+                        .and("/root/something[2]/cheese", equalTo("Edam"))
+                        .and("//honky"),
+                xml);
+    }
+
+    @Test public void
+    describesItself() {
+        assertDescription("an XML document with XPath /some/path \"Cheddar\", XPath /other/path",
+                          hasXPaths().and("/some/path", equalTo("Cheddar")).and("/other/path"));
+    }
+
+    private static Document parse(String xml) {
+        try {
+            DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+            documentBuilderFactory.setNamespaceAware(true);
+            return documentBuilderFactory.newDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes()));
+        }
+        catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}